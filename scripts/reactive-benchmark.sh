@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+#
+# MVC(서블릿) vs WebFlux(리액티브) 코어당 처리량 비교 스크립트 (로컬 H2)
+#
+# 같은 jar(-Preactive 빌드)를 프로필만 바꿔 실행하고, taskset으로 서버를 CORES개 코어에 고정한 뒤
+# wrk로 목록/상세 조회 부하를 주어 초당 요청 수(req/s)와 코어당 처리량을 출력합니다.
+#
+# 필요 도구: wrk, curl, taskset
+# 사용법:
+#   ./scripts/reactive-benchmark.sh
+#   CORES=2 DURATION=30s CONNECTIONS=256 ./scripts/reactive-benchmark.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CORES="${CORES:-2}"
+DURATION="${DURATION:-20s}"
+CONNECTIONS="${CONNECTIONS:-128}"
+THREADS="${THREADS:-4}"
+SEED="${SEED:-200}"
+PORT="${PORT:-18081}"
+JAR="target/notice-service-0.0.1-SNAPSHOT.jar"
+LOG="$(mktemp)"
+trap 'rm -f "$LOG"' EXIT
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+  ./mvnw -B -q -DskipTests -Preactive package
+fi
+
+CPU_SET="0-$((CORES - 1))"
+
+run_stack() {
+  local name="$1" profile="$2" pid rps
+
+  taskset -c "$CPU_SET" java -jar "$JAR" --spring.profiles.active="$profile" --server.port="$PORT" >"$LOG" 2>&1 &
+  pid=$!
+  until grep -q "Started NoticeServiceApplication" "$LOG"; do
+    kill -0 "$pid" 2>/dev/null || { cat "$LOG" >&2; return 1; }
+    sleep 0.2
+  done
+
+  for i in $(seq 1 "$SEED"); do
+    fixed=false
+    (( i % 20 == 0 )) && fixed=true
+    curl -s -o /dev/null -X POST "http://localhost:$PORT/api/notices" \
+      -H "Content-Type: application/json" -H "X-Role: ROLE_ADMIN" -H "X-Member-No: 1" \
+      -d "{\"noticeTitle\":\"벤치마크 공지 $i\",\"noticeContent\":\"내용 $i\",\"isFixed\":$fixed}" \
+      || true
+  done
+
+  for target in "/api/notices?page=0&size=10" "/api/notices/1"; do
+    # 워밍업 후 측정
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d5s "http://localhost:$PORT$target" >/dev/null
+    rps="$(wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" "http://localhost:$PORT$target" \
+      | awk '/Requests\/sec/ {print $2}')"
+    awk -v n="$name" -v t="$target" -v r="$rps" -v c="$CORES" \
+      'BEGIN {printf "%-8s %-28s %10.0f req/s %10.0f req/s/core\n", n, t, r, r / c}'
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+}
+
+run_stack mvc dev
+run_stack reactive reactive
@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 / 첫 요청 지연 비교 스크립트 (로컬 H2)
+#
+# 비교 대상:
+#   jvm      - 일반 실행 가능 jar
+#   aot      - Spring AOT 처리 jar (-Dspring.aot.enabled=true)
+#   aot+cds  - AOT + AppCDS 아카이브
+#   native   - GraalVM 네이티브 이미지 (target/notice-service 가 있을 때만)
+#
+# 사용법:
+#   ./scripts/startup-benchmark.sh            # -Paot,cds 로 빌드 후 비교
+#   SKIP_BUILD=1 ./scripts/startup-benchmark.sh
+#   RUNS=5 ./scripts/startup-benchmark.sh
+#
+# 네이티브 이미지는 별도로 빌드합니다: ./mvnw -Pnative native:compile
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${RUNS:-3}"
+PORT="${PORT:-18080}"
+JAR="target/notice-service-0.0.1-SNAPSHOT.jar"
+CDS_JAR="target/cds/notice-service-0.0.1-SNAPSHOT.jar"
+CDS_ARCHIVE="target/cds/application.jsa"
+NATIVE_BIN="target/notice-service"
+LOG="$(mktemp)"
+trap 'rm -f "$LOG"' EXIT
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+  ./mvnw -B -q -DskipTests -Paot,cds package
+fi
+
+# 애플리케이션을 띄우고 "process running for" 시간과 첫 요청 지연(ms)을 출력
+measure() {
+  local name="$1"; shift
+  local pid started first_ms startup
+
+  "$@" --server.port="$PORT" >"$LOG" 2>&1 &
+  pid=$!
+
+  for _ in $(seq 1 600); do
+    if grep -q "Started NoticeServiceApplication" "$LOG"; then
+      break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "[$name] 기동 실패" >&2
+      cat "$LOG" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+
+  startup="$(grep -o "process running for [0-9.]*" "$LOG" | awk '{print $4}')"
+  first_ms="$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT/api/notices?page=0&size=10" \
+    | awk '{printf "%.1f", $1 * 1000}')"
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+
+  printf "%-10s startup=%ss first-request=%sms\n" "$name" "$startup" "$first_ms"
+}
+
+for run in $(seq 1 "$RUNS"); do
+  echo "--- run $run/$RUNS"
+  measure jvm java -Dspring.aot.enabled=false -jar "$JAR"
+  measure aot java -Dspring.aot.enabled=true -jar "$JAR"
+  if [[ -f "$CDS_ARCHIVE" ]]; then
+    measure aot+cds java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Dspring.aot.enabled=true -jar "$CDS_JAR"
+  fi
+  if [[ -x "$NATIVE_BIN" ]]; then
+    measure native "$NATIVE_BIN"
+  fi
+done
@@ -0,0 +1,58 @@
+package com.cu2mber.noticeservice.common.config;
+
+import com.cu2mber.noticeservice.common.exception.ErrorResponse;
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.invalidation.InvalidationOutboxEntry;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * GraalVM 네이티브 이미지 및 Spring AOT 빌드를 위한 런타임 힌트 설정 클래스
+ * <p>주요 기능:
+ * <ul>
+ * <li>JSON 직렬화 대상 DTO(요청/응답/에러)의 리플렉션 힌트 등록</li>
+ * <li>Hibernate가 리플렉션으로 접근하는 엔티티 필드/생성자 힌트 등록</li>
+ * <li>springdoc Swagger UI 정적 리소스 포함</li>
+ * <li>SQL 추적({@code TracingDataSource})에서 사용하는 JDBC 인터페이스 JDK 프록시 등록</li>
+ * </ul>
+ * Lombok은 컴파일 타임에 코드를 생성하므로 별도의 힌트가 필요하지 않습니다.
+ * </p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.NoticeRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class NoticeRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    NoticeRequest.class, NoticeResponse.class, ErrorResponse.class);
+
+            hints.reflection().registerType(Notice.class, MemberCategory.values());
+            hints.reflection().registerType(InvalidationOutboxEntry.class, MemberCategory.values());
+
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+
+            hints.proxies().registerJdkProxy(Connection.class);
+            hints.proxies().registerJdkProxy(Statement.class);
+            hints.proxies().registerJdkProxy(PreparedStatement.class);
+            hints.proxies().registerJdkProxy(CallableStatement.class);
+            hints.proxies().registerJdkProxy(ResultSet.class);
+        }
+    }
+}
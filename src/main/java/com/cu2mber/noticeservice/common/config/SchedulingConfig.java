@@ -0,0 +1,17 @@
+package com.cu2mber.noticeservice.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 관련 설정을 관리하는 설정 클래스
+ * * <p>주요 기능:
+ * <ul>
+ * <li>@Scheduled 활성화: 공지사항 보관 작업 등 주기 작업을 실행합니다.</li>
+ * </ul>
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
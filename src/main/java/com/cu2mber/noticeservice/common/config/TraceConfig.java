@@ -0,0 +1,57 @@
+package com.cu2mber.noticeservice.common.config;
+
+import com.cu2mber.noticeservice.common.trace.ServerTimingFilter;
+import com.cu2mber.noticeservice.common.trace.SlowRequestLog;
+import com.cu2mber.noticeservice.common.trace.TracingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 실행 추적 설정 클래스
+ * <p>주요 기능:
+ * <ul>
+ * <li>데이터소스를 {@link TracingDataSource}로 감싸 JDBC 문 실행 기록</li>
+ * <li>{@code /api/*} 요청에 {@code Server-Timing} 헤더(db, app) 추가 (직렬화 시간은 느린 요청 기록에만 포함)</li>
+ * <li>가장 느린 요청 {@code notice.trace.slow-requests.size}개 보관</li>
+ * </ul>
+ * 설정 {@code notice.trace.enabled=false}로 비활성화할 수 있습니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "notice.trace.enabled", havingValue = "true", matchIfMissing = true)
+public class TraceConfig {
+
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SlowRequestLog slowRequestLog(@Value("${notice.trace.slow-requests.size:50}") int size) {
+        return new SlowRequestLog(size);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(SlowRequestLog slowRequestLog) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(slowRequestLog));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
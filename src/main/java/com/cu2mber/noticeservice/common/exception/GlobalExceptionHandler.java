@@ -1,6 +1,7 @@
 package com.cu2mber.noticeservice.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
  * <li><b>RuntimeException :</b> 위에서 처리되지 않은 예상치 못한 시스템 오류. 보안을 위해 상세 내용을 숨기고 500(Internal Server Error)으로 응답합니다.</li>
  * 각 예외 객체가 들고 있는 상태 코드에 따라 응답합니다.</li>
  * <li><b>MethodArgumentNotValidException :</b> {@code @Valid}를 통한 입력값 검증 실패 시 발생하며, 400(Bad Request)으로 응답합니다.</li>
+ * <li><b>OptimisticLockingFailureException :</b> 같은 공지사항을 동시에 수정하여 버전이 맞지 않을 때 발생하며, 409(Conflict)로 응답합니다.</li>
  * <li><b>BusinessException :</b> 서비스 로직에서 의도적으로 던지는 비즈니스 예외 (공지사항 미존재, 권한 부족 등)
  * </ul>
  */
@@ -62,6 +64,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * 동시 수정 충돌 처리
+     * <p>다른 요청이 먼저 같은 공지사항을 변경하여 엔티티 버전({@code @Version})이 맞지 않을 때 발생합니다.</p>
+     *
+     * @param e 낙관적 락 예외 객체
+     * @return 409 Conflict
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("동시 수정 충돌: {}", e.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "다른 요청이 먼저 공지사항을 변경했습니다. 다시 시도해주세요.",
+            LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * 커스텀 비즈니스 예외 처리
      * <p>BusinessException을 상속받은 모든 하위 예외(AdminForbiddenException 등)를 일괄 처리합니다.</p>
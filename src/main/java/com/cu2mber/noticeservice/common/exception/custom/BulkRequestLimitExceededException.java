@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 한 번에 조회할 수 있는 공지사항 번호 개수를 초과했을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 400 (Bad Request) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class BulkRequestLimitExceededException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "한 번에 조회할 수 있는 공지사항 개수를 초과했습니다.";
+
+    public BulkRequestLimitExceededException() {
+        super(DEFAULT_MESSAGE, 400);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 같은 Idempotency-Key로 다른 내용의 요청을 보냈을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 422 (Unprocessable Entity) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class IdempotencyKeyConflictException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.";
+
+    public IdempotencyKeyConflictException() {
+        super(DEFAULT_MESSAGE, 422);
+    }
+}
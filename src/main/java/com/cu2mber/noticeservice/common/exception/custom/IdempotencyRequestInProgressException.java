@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 같은 Idempotency-Key의 이전 요청이 아직 처리 중일 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 409 (Conflict) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class IdempotencyRequestInProgressException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    public IdempotencyRequestInProgressException() {
+        super(DEFAULT_MESSAGE, 409);
+    }
+}
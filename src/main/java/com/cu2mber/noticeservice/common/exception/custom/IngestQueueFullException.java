@@ -0,0 +1,19 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 비동기 등록 대기열이 가득 차 요청을 받을 수 없을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 503 (Service Unavailable) 상태 코드를 반환하도록 설계되었습니다.
+ * 클라이언트는 잠시 후 재시도하여 대기열이 비워지기를 기다려야 합니다(배압).
+ * </p>
+ */
+public class IngestQueueFullException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "등록 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public IngestQueueFullException() {
+        super(DEFAULT_MESSAGE, 503);
+    }
+}
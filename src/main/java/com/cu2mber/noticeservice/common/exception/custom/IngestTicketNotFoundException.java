@@ -0,0 +1,19 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 비동기 등록 요청의 처리 상태(티켓)를 찾을 수 없을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 404 (Not Found) 상태 코드를 반환하도록 설계되었습니다.
+ * 처리 완료 후 보관 기간이 지난 티켓도 이 예외로 응답합니다.
+ * </p>
+ */
+public class IngestTicketNotFoundException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "존재하지 않거나 만료된 등록 요청입니다.";
+
+    public IngestTicketNotFoundException() {
+        super(DEFAULT_MESSAGE, 404);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 지원하지 않는 본문 형식(format)을 요청했을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 400 (Bad Request) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class InvalidContentFormatException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "지원하지 않는 본문 형식입니다. (raw, html, excerpt)";
+
+    public InvalidContentFormatException() {
+        super(DEFAULT_MESSAGE, 400);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * Idempotency-Key 헤더 값이 허용된 형식(1~255자)이 아닐 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 400 (Bad Request) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class InvalidIdempotencyKeyException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "Idempotency-Key는 1~255자여야 합니다.";
+
+    public InvalidIdempotencyKeyException() {
+        super(DEFAULT_MESSAGE, 400);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 게시 종료 시각이 게시 시작 시각보다 앞서는 등 게시 기간이 올바르지 않을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 400 (Bad Request) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class InvalidNoticeScheduleException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "게시 종료 시각은 게시 시작 시각 이후여야 합니다.";
+
+    public InvalidNoticeScheduleException() {
+        super(DEFAULT_MESSAGE, 400);
+    }
+}
@@ -0,0 +1,18 @@
+package com.cu2mber.noticeservice.common.exception.custom;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+
+/**
+ * 데이터베이스 장애로 공지사항을 조회할 수 없고, 대신 제공할 마지막 정상 응답도 없을 때 발생하는 비즈니스 예외 클래스
+ * <p>
+ * 이 예외는 {@link BusinessException}을 상속받으며,
+ * 발생 시 클라이언트에게 HTTP 503 (Service Unavailable) 상태 코드를 반환하도록 설계되었습니다.
+ * </p>
+ */
+public class NoticeUnavailableException extends BusinessException {
+    private static final String DEFAULT_MESSAGE = "일시적으로 공지사항을 조회할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public NoticeUnavailableException() {
+        super(DEFAULT_MESSAGE, 503);
+    }
+}
@@ -0,0 +1,194 @@
+package com.cu2mber.noticeservice.common.idempotency;
+
+import com.cu2mber.noticeservice.common.exception.custom.IdempotencyKeyConflictException;
+import com.cu2mber.noticeservice.common.exception.custom.IdempotencyRequestInProgressException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidIdempotencyKeyException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키(Idempotency-Key)별 처리 결과를 보관하는 메모리 저장소
+ * <p>
+ * 처음 들어온 요청만 실제로 실행하고, 같은 키의 재시도는 저장된 결과를 DB 접근 없이 그대로 반환합니다.
+ * 처리 중에 들어온 중복 요청은 실행하지 않고 첫 요청의 결과를 최대 {@code wait-timeout} 동안 기다립니다.
+ * </p>
+ * <ul>
+ * <li>같은 키에 다른 내용(fingerprint)의 요청: {@link IdempotencyKeyConflictException} (422)</li>
+ * <li>대기 시간 안에 첫 요청이 끝나지 않음: {@link IdempotencyRequestInProgressException} (409)</li>
+ * <li>첫 요청이 실패하면 키를 제거하여 다음 재시도가 다시 실행되도록 하고, 기다리던 요청에는 같은 예외를 전달</li>
+ * </ul>
+ * <p>
+ * 결과는 생성 후 {@code ttl} 동안 보관되며, 최대 {@code max-entries}개를 넘으면 처리가 끝난 키 중 가장 오래된 것부터 제거됩니다.
+ * 처리 중인 키는 제거하지 않으므로(제거하면 동시 재시도가 작업을 한 번 더 실행함), 처리 중인 요청이 몰리면 잠시 상한을 넘을 수 있습니다.
+ * 단일 인스턴스 메모리 저장소이므로 여러 인스턴스 간에는 게이트웨이의 고정 라우팅(같은 키 → 같은 인스턴스)을 전제로 합니다.
+ * </p>
+ */
+@Component
+public class IdempotencyStore {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+    private final Clock clock;
+
+    @Autowired
+    public IdempotencyStore(@Value("${notice.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${notice.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                            @Value("${notice.idempotency.max-entries:100000}") int maxEntries) {
+        this(ttl, waitTimeout, maxEntries, Clock.systemUTC());
+    }
+
+    IdempotencyStore(Duration ttl, Duration waitTimeout, int maxEntries, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 키에 해당하는 작업을 한 번만 실행
+     *
+     * @param scope       키의 적용 범위 (예: 작성자 번호) - 범위가 다르면 같은 키라도 별개로 처리
+     * @param key         클라이언트가 보낸 멱등성 키
+     * @param fingerprint 요청 내용 지문 ({@link #fingerprint(Object...)})
+     * @param action      처음 요청일 때 실행할 작업
+     * @return 작업 결과와 재사용 여부
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IdempotentResult<T> execute(Object scope, String key, String fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+        String scopedKey = scope + ":" + key;
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            long now = clock.millis();
+            expire(now);
+            entry = entries.get(scopedKey);
+            if (entry == null) {
+                evictCompleted();
+                entry = new Entry(fingerprint, now);
+                entries.put(scopedKey, entry);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            if (!entry.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyConflictException();
+            }
+            return new IdempotentResult<>((T) await(entry), true);
+        }
+
+        try {
+            T value = action.get();
+            entry.result.complete(value);
+            return new IdempotentResult<>(value, false);
+        } catch (Throwable e) {
+            synchronized (this) {
+                entries.remove(scopedKey, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /** 요청 내용으로 지문 생성 (SHA-256) */
+    public static String fingerprint(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(Objects.toString(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object await(Entry entry) {
+        try {
+            return entry.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyRequestInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyRequestInProgressException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** 삽입 순서로 앞에서부터 만료된 항목 제거 (처리 중인 항목은 유지) */
+    private void expire(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.createdAtMillis + ttlMillis > now) {
+                return;
+            }
+            if (entry.result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /** 상한에 도달하면 삽입 순서로 앞에서부터 처리가 끝난 항목만 제거 (처리 중인 항목은 상한을 넘어도 유지) */
+    private void evictCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long createdAtMillis;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long createdAtMillis) {
+            this.fingerprint = fingerprint;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+
+    /**
+     * 멱등 실행 결과
+     *
+     * @param value    작업 결과
+     * @param replayed 이전 요청의 결과를 재사용했는지 여부
+     */
+    public record IdempotentResult<T>(T value, boolean replayed) {
+    }
+}
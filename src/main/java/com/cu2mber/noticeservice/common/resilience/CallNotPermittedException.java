@@ -0,0 +1,12 @@
+package com.cu2mber.noticeservice.common.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있어 호출이 거절되었을 때 발생하는 예외
+ * <p>호출자는 이 예외를 받으면 마지막 정상 응답 등 대체 경로를 사용해야 합니다.</p>
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String name) {
+        super("서킷 브레이커 [" + name + "]가 열려 있어 호출이 거절되었습니다.");
+    }
+}
@@ -0,0 +1,109 @@
+package com.cu2mber.noticeservice.common.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 연속 실패 횟수 기반의 단순 서킷 브레이커
+ * <p>
+ * {@code failureThreshold}번 연속으로 실패하면 OPEN 상태가 되어 {@code openDuration} 동안 호출을 즉시 거절합니다
+ * ({@link CallNotPermittedException}). 대기 시간이 지나면 HALF_OPEN 상태에서 한 번의 시험 호출만 허용하고,
+ * 성공하면 CLOSED로, 실패하면 다시 OPEN으로 전환합니다.
+ * </p>
+ * <p>
+ * 장애로 간주할 예외는 {@code recordFailure}로 지정합니다.
+ * 그 외의 예외(존재하지 않는 공지사항 등 비즈니스 예외)는 정상 응답으로 취급합니다.
+ * </p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Predicate<Throwable> recordFailure;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                          Predicate<Throwable> recordFailure, Clock clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.recordFailure = recordFailure;
+        this.clock = clock;
+    }
+
+    /**
+     * 서킷 상태에 따라 호출을 실행하거나 거절
+     *
+     * @param call 실행할 호출
+     * @return 호출 결과
+     * @throws CallNotPermittedException 서킷이 열려 있는 경우 발생
+     */
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (recordFailure.test(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN && clock.millis() - openedAtMillis >= openDurationMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+            throw new CallNotPermittedException(name);
+        }
+        if (state == State.HALF_OPEN) {
+            trialInFlight = true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("서킷 브레이커 [{}] 닫힘", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("서킷 브레이커 [{}] 열림 (연속 실패 {}회)", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtMillis = clock.millis();
+            trialInFlight = false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.cu2mber.noticeservice.common.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 마지막으로 정상 조회된 응답을 보관하는 크기 제한 LRU 저장소
+ * <p>DB 장애로 조회에 실패했을 때 오래된(stale) 응답을 대신 제공하기 위해 사용합니다.</p>
+ *
+ * @param <K> 조회 키 (공지사항 번호, 목록 조회 조건 등)
+ * @param <V> 응답 타입
+ */
+public class LastKnownGoodStore<K, V> {
+
+    private final Map<K, Stored<V>> entries;
+
+    public LastKnownGoodStore(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Stored<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Optional<Stored<V>> get(K key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public synchronized void put(K key, V value, long storedAtMillis) {
+        entries.put(key, new Stored<>(value, storedAtMillis));
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    /** 조건에 맞는 응답을 모두 제거 */
+    public synchronized void evictIf(Predicate<V> condition) {
+        entries.values().removeIf(stored -> condition.test(stored.value()));
+    }
+
+    /**
+     * 저장된 응답
+     *
+     * @param value          응답
+     * @param storedAtMillis 정상 조회된 시각
+     */
+    public record Stored<V>(V value, long storedAtMillis) {
+    }
+}
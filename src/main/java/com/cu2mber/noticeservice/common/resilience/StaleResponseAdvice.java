@@ -0,0 +1,42 @@
+package com.cu2mber.noticeservice.common.resilience;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 오래된(stale) 응답에 캐시 경고 헤더를 추가하는 응답 본문 어드바이스
+ * <p>
+ * {@link StaleResponses#mark(long)}로 표시된 요청에 대해
+ * {@code Warning: 110 - "Response is Stale"}과 {@code Age} 헤더를 추가하여
+ * 클라이언트가 DB 장애 중 마지막 정상 데이터를 받았음을 알 수 있게 합니다.
+ * </p>
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(StaleResponses.AGE_SECONDS_ATTRIBUTE) instanceof Long age) {
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(age));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,28 @@
+package com.cu2mber.noticeservice.common.resilience;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 요청이 오래된(stale) 응답으로 처리되었음을 표시하는 유틸리티
+ * <p>
+ * 서비스 계층에서 {@link #mark(long)}로 응답의 경과 시간을 요청 속성에 기록하면,
+ * {@link StaleResponseAdvice}가 응답 본문을 쓰기 직전에 {@code Warning}/{@code Age} 헤더를 추가합니다.
+ * 웹 요청이 아닌 스레드(백그라운드 갱신 등)에서는 아무 동작도 하지 않습니다.
+ * </p>
+ */
+public final class StaleResponses {
+
+    public static final String AGE_SECONDS_ATTRIBUTE = StaleResponses.class.getName() + ".AGE_SECONDS";
+
+    private StaleResponses() {
+    }
+
+    /** 현재 요청의 응답이 {@code ageSeconds}초 전에 조회된 데이터임을 기록 */
+    public static void mark(long ageSeconds) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(AGE_SECONDS_ATTRIBUTE, Math.max(0, ageSeconds), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.cu2mber.noticeservice.common.timer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시 타이머 휠
+ * <p>
+ * 시간을 {@code tick} 단위 칸으로 나누고, 예약 시각이 속한 칸(tick 번호를 휠 크기로 나눈 나머지)에 작업을 넣어 둡니다.
+ * 시간이 흐르면 지나간 칸만 확인하므로 예약/만료 처리 비용이 전체 예약 수와 무관합니다.
+ * 휠 한 바퀴보다 먼 작업은 같은 칸에 머물다가 해당 바퀴가 되었을 때 만료됩니다.
+ * </p>
+ * <p>동기화하지 않으므로 호출자가 한 스레드에서 사용하거나 외부에서 잠가야 합니다.
+ * 만료 정밀도는 {@code tick} 단위입니다(예약 시각 이후 첫 tick 경계에서 만료).</p>
+ *
+ * @param <T> 예약 작업 타입
+ */
+public class HashedTimerWheel<T> {
+
+    private final long tickMillis;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final int mask;
+    private long lastTick;
+    private int size;
+
+    /**
+     * @param tick        칸 하나의 시간 간격
+     * @param wheelSize   칸 개수 (2의 거듭제곱으로 올림)
+     * @param startMillis 시작 시각 (epoch millis)
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(Duration tick, int wheelSize, long startMillis) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick과 wheelSize는 0보다 커야 합니다.");
+        }
+        int capacity = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayDeque[capacity];
+        for (int i = 0; i < capacity; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = capacity - 1;
+        this.lastTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * 작업 예약 (이미 지난 시각이면 다음 tick에 만료)
+     *
+     * @param task           만료 시 반환할 작업
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     */
+    public void schedule(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), lastTick + 1);
+        buckets[(int) (deadlineTick & mask)].add(new Timeout<>(task, deadlineTick));
+        size++;
+    }
+
+    /**
+     * 주어진 시각까지 시간을 진행하고 만료된 작업을 반환
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 만료된 작업 목록
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        if (targetTick <= lastTick) {
+            return List.of();
+        }
+
+        List<T> expired = new ArrayList<>();
+        if (targetTick - lastTick >= buckets.length) {
+            // 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 확인
+            for (ArrayDeque<Timeout<T>> bucket : buckets) {
+                expire(bucket, targetTick, expired);
+            }
+        } else {
+            for (long tick = lastTick + 1; tick <= targetTick; tick++) {
+                expire(buckets[(int) (tick & mask)], tick, expired);
+            }
+        }
+        lastTick = targetTick;
+        return expired;
+    }
+
+    /** 예약된 작업 수 */
+    public int size() {
+        return size;
+    }
+
+    private void expire(ArrayDeque<Timeout<T>> bucket, long tick, List<T> expired) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.deadlineTick <= tick) {
+                iterator.remove();
+                size--;
+                expired.add(timeout.task);
+            }
+        }
+    }
+
+    private record Timeout<T>(T task, long deadlineTick) {
+    }
+}
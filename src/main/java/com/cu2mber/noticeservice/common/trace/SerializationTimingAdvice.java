@@ -0,0 +1,37 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문 직렬화가 시작되는 시점을 {@link SqlTrace}에 기록하고 {@code Server-Timing} 헤더를 쓰는 어드바이스
+ * <p>
+ * 본문이 쓰이기 전(응답 커밋 전)에 호출되므로 응답을 버퍼링하지 않고도 헤더를 추가할 수 있습니다.
+ * 직렬화 시간(이 시점부터 필터로 돌아올 때까지)은 헤더에 담지 않고 {@link SlowRequestLog}에만 기록됩니다.
+ * </p>
+ */
+@RestControllerAdvice
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlTrace trace = SqlTrace.current();
+        if (trace != null) {
+            SqlTrace.markSerializeStart();
+            response.getHeaders().set(ServerTimingFilter.SERVER_TIMING, trace.toServerTiming(System.nanoTime()));
+        }
+        return body;
+    }
+}
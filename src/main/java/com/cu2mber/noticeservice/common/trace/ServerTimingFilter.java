@@ -0,0 +1,98 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 요청별 SQL 실행 기록을 수집하고 {@code Server-Timing} 헤더를 추가하는 필터
+ * <p>
+ * 요청 시작 시 {@link SqlTrace}를 현재 스레드에 바인딩합니다.
+ * {@code Server-Timing: db;dur=.., app;dur=..} 헤더는 본문이 쓰이기 직전에 {@link SerializationTimingAdvice}가 추가하며,
+ * 본문이 없는 응답은 아직 커밋되지 않았다면 이 필터가 마지막에 추가합니다. 응답 본문은 버퍼링하지 않습니다.
+ * 처리 시간이 긴 요청은 {@link SlowRequestLog}에 직렬화 시간, SQL 목록과 함께 기록됩니다.
+ * 기동 워밍업 요청은 기록하지 않으며, 프로세스마다 임의로 생성한 토큰({@link #warmupToken()})을
+ * {@value #WARMUP_HEADER} 헤더 값으로 보낸 요청만 워밍업 요청으로 인정합니다.
+ * </p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    /** 기동 워밍업 요청임을 표시하는 헤더 (값은 {@link #warmupToken()}) */
+    public static final String WARMUP_HEADER = "X-Warmup";
+
+    private static final String WARMUP_TOKEN = newToken();
+
+    private final SlowRequestLog slowRequestLog;
+
+    public ServerTimingFilter(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlTrace trace = SqlTrace.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlTrace.end();
+            long endNanos = System.nanoTime();
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, trace.toServerTiming(endNanos));
+            }
+            if (!isWarmup(request)) {
+                record(request, response.getStatus(), trace, endNanos);
+            }
+        }
+    }
+
+    /** 이 프로세스의 워밍업 요청 토큰 (외부에 노출되지 않으므로 외부 요청은 느린 요청 기록을 숨길 수 없음) */
+    public static String warmupToken() {
+        return WARMUP_TOKEN;
+    }
+
+    private static boolean isWarmup(HttpServletRequest request) {
+        String token = request.getHeader(WARMUP_HEADER);
+        return token != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8), WARMUP_TOKEN.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private void record(HttpServletRequest request, int status, SqlTrace trace, long endNanos) {
+        double totalMillis = (endNanos - trace.startNanos()) / 1_000_000.0;
+        if (!slowRequestLog.isCandidate(totalMillis)) {
+            return;
+        }
+
+        String uri = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        slowRequestLog.offer(new SlowRequest(
+                request.getMethod(),
+                uri,
+                status,
+                totalMillis,
+                trace.dbNanos() / 1_000_000.0,
+                trace.serializeNanos(endNanos) / 1_000_000.0,
+                trace.statementCount(),
+                trace.statements(),
+                Instant.now()
+        ));
+    }
+}
@@ -0,0 +1,39 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 느린 요청 기록
+ */
+public record SlowRequest(
+        @Schema(description = "HTTP 메서드")
+        String method,
+
+        @Schema(description = "요청 경로 (쿼리 문자열 포함)")
+        String uri,
+
+        @Schema(description = "응답 상태 코드")
+        int status,
+
+        @Schema(description = "전체 처리 시간 (ms)")
+        double totalMillis,
+
+        @Schema(description = "SQL 실행 및 결과 읽기 시간 (ms)")
+        double dbMillis,
+
+        @Schema(description = "응답 직렬화 시간 (ms)")
+        double serializeMillis,
+
+        @Schema(description = "실행된 SQL 문 수")
+        int statementCount,
+
+        @Schema(description = "실행된 SQL 문 (요청당 최대 100개)")
+        List<SqlStatementTrace> statements,
+
+        @Schema(description = "요청 완료 시각")
+        Instant completedAt
+) {
+}
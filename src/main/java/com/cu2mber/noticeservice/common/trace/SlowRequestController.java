@@ -0,0 +1,44 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import com.cu2mber.noticeservice.common.exception.custom.AdminForbiddenException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 느린 요청 기록 조회 REST API 컨트롤러입니다.
+ * 요청별 SQL 실행 내역을 확인하여 지연 원인(본문 쿼리, COUNT 쿼리, 직렬화)을 구분할 수 있습니다.
+ * 관리자 권한(X-Role: ROLE_ADMIN)이 필요합니다.
+ */
+@RestController
+@RequestMapping("/api/admin/slow-requests")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestController {
+
+    private final SlowRequestLog slowRequestLog;
+
+    /** 가장 느린 요청 목록 조회 (느린 순) */
+    @GetMapping
+    public ResponseEntity<List<SlowRequest>> getSlowRequests(@RequestHeader("X-Role") String role) {
+        checkAdmin(role);
+        return ResponseEntity.ok(slowRequestLog.snapshot());
+    }
+
+    /** 느린 요청 기록 초기화 */
+    @DeleteMapping
+    public ResponseEntity<Void> clearSlowRequests(@RequestHeader("X-Role") String role) {
+        checkAdmin(role);
+        slowRequestLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    private static void checkAdmin(String role) {
+        if (!"ROLE_ADMIN".equals(role)) {
+            throw new AdminForbiddenException();
+        }
+    }
+}
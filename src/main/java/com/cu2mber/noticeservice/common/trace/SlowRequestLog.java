@@ -0,0 +1,70 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가장 느린 요청 N개를 보관하는 크기 제한 버퍼
+ * <p>
+ * 최소 힙으로 보관하여 새 요청이 현재 보관 중인 가장 빠른 요청보다 느릴 때만 교체합니다.
+ * 버퍼가 가득 찬 뒤에는 잠금 없이 읽는 임계값으로 대부분의 요청을 바로 걸러내므로 요청마다의 비용은 비교 한 번입니다.
+ * 크기가 0이면 기록하지 않습니다 (모든 요청이 후보에서 제외).
+ * </p>
+ */
+public class SlowRequestLog {
+
+    private static final Comparator<SlowRequest> BY_TOTAL = Comparator.comparingDouble(SlowRequest::totalMillis);
+
+    private final int capacity;
+    private final PriorityQueue<SlowRequest> slowest;
+    private volatile double thresholdMillis;
+
+    public SlowRequestLog(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("notice.trace.slow-requests.size는 0 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slowest = new PriorityQueue<>(Math.max(capacity, 1), BY_TOTAL);
+        this.thresholdMillis = initialThreshold();
+    }
+
+    /** 보관 중인 가장 빠른 요청보다 느릴 가능성이 있는지 (잠금 없이 확인) */
+    public boolean isCandidate(double totalMillis) {
+        return totalMillis > thresholdMillis;
+    }
+
+    public synchronized void offer(SlowRequest request) {
+        if (capacity == 0) {
+            return;
+        }
+        if (slowest.size() < capacity) {
+            slowest.add(request);
+        } else if (request.totalMillis() > slowest.peek().totalMillis()) {
+            slowest.poll();
+            slowest.add(request);
+        } else {
+            return;
+        }
+        if (slowest.size() == capacity) {
+            thresholdMillis = slowest.peek().totalMillis();
+        }
+    }
+
+    /** 느린 순으로 정렬된 목록 */
+    public synchronized List<SlowRequest> snapshot() {
+        List<SlowRequest> result = new ArrayList<>(slowest);
+        result.sort(BY_TOTAL.reversed());
+        return result;
+    }
+
+    public synchronized void clear() {
+        slowest.clear();
+        thresholdMillis = initialThreshold();
+    }
+
+    private double initialThreshold() {
+        return capacity == 0 ? Double.POSITIVE_INFINITY : 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import lombok.Getter;
+
+/**
+ * 요청 중 실행된 JDBC 문 하나의 실행 기록
+ * <p>결과 행을 읽는 동안에도 행 수와 소요 시간이 누적됩니다(요청 스레드 안에서만 갱신).</p>
+ */
+@Getter
+public final class SqlStatementTrace {
+
+    private final String sql;
+    private final int bindCount;
+    private long rows;
+    private long durationNanos;
+
+    SqlStatementTrace(String sql, int bindCount, long rows, long durationNanos) {
+        this.sql = sql;
+        this.bindCount = bindCount;
+        this.rows = rows;
+        this.durationNanos = durationNanos;
+    }
+
+    void addFetch(long fetchedRows, long nanos) {
+        rows += fetchedRows;
+        durationNanos += nanos;
+    }
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+}
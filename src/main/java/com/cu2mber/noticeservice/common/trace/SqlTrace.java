@@ -0,0 +1,101 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 하나 동안의 SQL 실행 기록과 구간별 소요 시간
+ * <p>
+ * {@link ServerTimingFilter}가 요청 시작 시 현재 스레드에 바인딩하고,
+ * {@link TracingDataSource}가 문 실행마다 기록합니다. 바인딩된 기록이 없는 스레드(백그라운드 작업 등)에서는
+ * 아무것도 기록하지 않으므로 추가 비용이 없습니다.
+ * 요청당 최대 {@code MAX_RECORDED_STATEMENTS}개의 문만 상세히 보관하고, 그 이후는 횟수와 시간만 누적합니다.
+ * </p>
+ */
+public final class SqlTrace {
+
+    static final int MAX_RECORDED_STATEMENTS = 100;
+
+    private static final ThreadLocal<SqlTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final List<SqlStatementTrace> statements = new ArrayList<>();
+    private int statementCount;
+    private long dbNanos;
+    private long serializeStartNanos;
+
+    private SqlTrace() {
+    }
+
+    /** 현재 스레드에서 새 기록 시작 */
+    static SqlTrace begin() {
+        SqlTrace trace = new SqlTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /** 현재 스레드의 기록 (없으면 null) */
+    static SqlTrace current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** 응답 직렬화 시작 시점 기록 */
+    static void markSerializeStart() {
+        SqlTrace trace = CURRENT.get();
+        if (trace != null && trace.serializeStartNanos == 0) {
+            trace.serializeStartNanos = System.nanoTime();
+        }
+    }
+
+    SqlStatementTrace record(String sql, int bindCount, long rows, long durationNanos) {
+        statementCount++;
+        dbNanos += durationNanos;
+        SqlStatementTrace statement = new SqlStatementTrace(sql, bindCount, rows, durationNanos);
+        if (statements.size() < MAX_RECORDED_STATEMENTS) {
+            statements.add(statement);
+        }
+        return statement;
+    }
+
+    void addFetch(SqlStatementTrace statement, long rows, long nanos) {
+        statement.addFetch(rows, nanos);
+        dbNanos += nanos;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+
+    /** 직렬화 시작부터 {@code endNanos}까지의 시간 (직렬화하지 않은 응답은 0) */
+    long serializeNanos(long endNanos) {
+        return serializeStartNanos == 0 ? 0 : endNanos - serializeStartNanos;
+    }
+
+    int statementCount() {
+        return statementCount;
+    }
+
+    List<SqlStatementTrace> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * {@code Server-Timing} 헤더 값 (db, app; 단위 ms)
+     * <p>app은 요청 시작부터 {@code nowNanos}까지 중 DB 시간을 뺀 나머지입니다.
+     * 헤더는 본문보다 먼저 나가야 하므로 직렬화 시간은 포함하지 않습니다.</p>
+     */
+    String toServerTiming(long nowNanos) {
+        return String.format(Locale.ROOT, "db;dur=%.2f, app;dur=%.2f",
+                dbNanos / 1_000_000.0,
+                Math.max(0, nowNanos - startNanos - dbNanos) / 1_000_000.0);
+    }
+}
@@ -0,0 +1,159 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC 문 실행을 {@link SqlTrace}에 기록하는 데이터소스 래퍼
+ * <p>
+ * 현재 스레드에 기록({@link SqlTrace#current()})이 있을 때 얻은 커넥션만 프록시로 감싸
+ * 문마다 SQL, 바인딩 파라미터 수, 결과 행 수, 실행 시간(결과 행을 읽는 시간 포함)을 기록합니다.
+ * 기록이 없는 스레드에는 원본 커넥션을 그대로 반환합니다.
+ * </p>
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        SqlTrace trace = SqlTrace.current();
+        if (trace == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection, trace));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // 프록시 자신과의 비교가 원본 객체 기준으로 처리되지 않도록 동일성으로 판단
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target, SqlTrace trace) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = TracingDataSource.invoke(proxy, target, method, args);
+            String name = method.getName();
+
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, trace, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, trace, (String) args[0]));
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxy(Statement.class, new StatementHandler(statement, trace, null));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final SqlTrace trace;
+        private final String preparedSql;
+        private int bindCount;
+        private SqlStatementTrace lastStatement;
+
+        private StatementHandler(Statement target, SqlTrace trace, String preparedSql) {
+            this.target = target;
+            this.trace = trace;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.startsWith("set") && method.getDeclaringClass() != Statement.class) {
+                    bindCount++;
+                }
+                Object result = TracingDataSource.invoke(proxy, target, method, args);
+                return name.equals("getResultSet") && result instanceof ResultSet resultSet && lastStatement != null
+                        ? proxy(ResultSet.class, new ResultSetHandler(resultSet, trace, lastStatement))
+                        : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result = TracingDataSource.invoke(proxy, target, method, args);
+            long elapsed = System.nanoTime() - start;
+
+            lastStatement = trace.record(sql, bindCount, updatedRows(result), elapsed);
+            bindCount = 0;
+
+            return result instanceof ResultSet resultSet
+                    ? proxy(ResultSet.class, new ResultSetHandler(resultSet, trace, lastStatement))
+                    : result;
+        }
+
+        private static long updatedRows(Object result) {
+            if (result instanceof Number updated) {
+                return updated.longValue();
+            }
+            long rows = 0;
+            if (result instanceof int[] batch) {
+                for (int updated : batch) {
+                    rows += Math.max(updated, 0);
+                }
+            } else if (result instanceof long[] batch) {
+                for (long updated : batch) {
+                    rows += Math.max(updated, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target, SqlTrace trace, SqlStatementTrace statement)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().equals("next")) {
+                return TracingDataSource.invoke(proxy, target, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object hasNext = TracingDataSource.invoke(proxy, target, method, args);
+            trace.addFetch(statement, Boolean.TRUE.equals(hasNext) ? 1 : 0, System.nanoTime() - start);
+            return hasNext;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.cu2mber.noticeservice.member;
+
+import com.cu2mber.noticeservice.member.client.MemberDirectoryClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작성자 회원 번호를 이름으로 변환하는 캐시 계층
+ * <p>
+ * 목록 한 페이지에 포함된 회원 번호를 모아 캐시에 없는 번호만 {@link MemberDirectoryClient}로 한 번에 조회합니다.
+ * 조회된 이름은 {@code member.name-cache.ttl} 동안, 존재하지 않는 회원은 {@code member.name-cache.negative-ttl} 동안
+ * 캐시되어 같은 번호에 대한 반복 호출을 막습니다(네거티브 캐싱).
+ * </p>
+ * <p>
+ * 회원 디렉터리 호출이 실패하면 결과를 캐시하지 않고 {@link #UNKNOWN_MEMBER_NAME}을 반환하여
+ * 공지사항 조회 자체는 실패하지 않도록 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MemberNameResolver {
+
+    /** 존재하지 않거나 조회할 수 없는 회원의 표시 이름 */
+    public static final String UNKNOWN_MEMBER_NAME = "알 수 없음";
+
+    private final MemberDirectoryClient memberDirectoryClient;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final int maxEntries;
+    private final Map<Long, CachedName> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MemberNameResolver(MemberDirectoryClient memberDirectoryClient,
+                              @Value("${member.name-cache.ttl:10m}") Duration ttl,
+                              @Value("${member.name-cache.negative-ttl:1m}") Duration negativeTtl,
+                              @Value("${member.name-cache.max-entries:50000}") int maxEntries) {
+        this(memberDirectoryClient, ttl, negativeTtl, maxEntries, Clock.systemUTC());
+    }
+
+    MemberNameResolver(MemberDirectoryClient memberDirectoryClient, Duration ttl, Duration negativeTtl,
+                       int maxEntries, Clock clock) {
+        this.memberDirectoryClient = memberDirectoryClient;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 단일 회원 이름 조회
+     *
+     * @param memberNo 회원 번호
+     * @return 회원 이름 (없으면 {@link #UNKNOWN_MEMBER_NAME})
+     */
+    public String resolve(Long memberNo) {
+        return resolveAll(List.of(memberNo)).get(memberNo);
+    }
+
+    /**
+     * 여러 회원 이름을 한 번에 조회
+     * <p>캐시에 없는 번호만 모아 회원 디렉터리를 한 번 호출합니다.</p>
+     *
+     * @param memberNos 회원 번호 목록 (중복, null 허용)
+     * @return 요청한 모든 회원 번호에 대한 이름 (없으면 {@link #UNKNOWN_MEMBER_NAME})
+     */
+    public Map<Long, String> resolveAll(Collection<Long> memberNos) {
+        long now = clock.millis();
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+
+        for (Long memberNo : memberNos) {
+            if (memberNo == null || names.containsKey(memberNo)) {
+                continue;
+            }
+            CachedName cached = cache.get(memberNo);
+            if (cached != null && cached.expiresAtMillis() > now) {
+                names.put(memberNo, cached.displayName());
+            } else {
+                misses.add(memberNo);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            names.putAll(fetch(misses, now));
+        }
+        return names;
+    }
+
+    /** 회원 정보 변경 시 캐시된 이름 제거 */
+    public void evict(Long memberNo) {
+        cache.remove(memberNo);
+    }
+
+    private Map<Long, String> fetch(Set<Long> misses, long now) {
+        Map<Long, String> found;
+        try {
+            found = Objects.requireNonNullElse(memberDirectoryClient.findMemberNames(misses), Map.of());
+        } catch (RuntimeException e) {
+            log.warn("회원 이름 조회 실패 ({}건): {}", misses.size(), e.getMessage());
+            Map<Long, String> unknown = new HashMap<>();
+            misses.forEach(memberNo -> unknown.put(memberNo, UNKNOWN_MEMBER_NAME));
+            return unknown;
+        }
+
+        if (cache.size() + misses.size() > maxEntries) {
+            cache.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+            if (cache.size() + misses.size() > maxEntries) {
+                cache.clear();
+            }
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (Long memberNo : misses) {
+            String name = found.get(memberNo);
+            CachedName cached = name != null
+                    ? new CachedName(name, now + ttlMillis)
+                    : new CachedName(null, now + negativeTtlMillis);
+            cache.put(memberNo, cached);
+            names.put(memberNo, cached.displayName());
+        }
+        return names;
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param name            회원 이름 (존재하지 않는 회원이면 null)
+     * @param expiresAtMillis 만료 시각
+     */
+    private record CachedName(String name, long expiresAtMillis) {
+
+        String displayName() {
+            return name != null ? name : UNKNOWN_MEMBER_NAME;
+        }
+    }
+}
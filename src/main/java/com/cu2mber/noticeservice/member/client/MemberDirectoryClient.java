@@ -0,0 +1,22 @@
+package com.cu2mber.noticeservice.member.client;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 회원 정보(이름)를 제공하는 외부 회원 디렉터리 클라이언트 인터페이스
+ * <p>
+ * 목록 조회 시 행마다 호출하면 N+1 호출이 발생하므로, 여러 회원 번호를 한 번에 조회하는 배치 메서드만 제공합니다.
+ * 구현체는 {@link com.cu2mber.noticeservice.member.MemberNameResolver}의 캐시 뒤에서 사용됩니다.
+ * </p>
+ */
+public interface MemberDirectoryClient {
+
+    /**
+     * 회원 번호 목록에 해당하는 이름을 한 번에 조회
+     *
+     * @param memberNos 조회할 회원 번호 목록
+     * @return 회원 번호별 이름 (존재하지 않는 회원은 결과에 포함되지 않음)
+     */
+    Map<Long, String> findMemberNames(Collection<Long> memberNos);
+}
@@ -0,0 +1,34 @@
+package com.cu2mber.noticeservice.member.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬 개발/테스트용 회원 디렉터리 스텁 구현체
+ * <p>
+ * 회원 서비스와 연동하기 전까지 모든 회원 번호에 기본 이름({@code member.directory.stub.default-name})을 반환합니다.
+ * 회원 서비스 클라이언트가 구현되면 이 클래스를 대체합니다.
+ * </p>
+ */
+@Component
+public class StubMemberDirectoryClient implements MemberDirectoryClient {
+
+    private final String defaultName;
+
+    public StubMemberDirectoryClient(@Value("${member.directory.stub.default-name:관리자}") String defaultName) {
+        this.defaultName = defaultName;
+    }
+
+    @Override
+    public Map<Long, String> findMemberNames(Collection<Long> memberNos) {
+        Map<Long, String> names = new HashMap<>();
+        for (Long memberNo : memberNos) {
+            names.put(memberNo, defaultName);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,99 @@
+package com.cu2mber.noticeservice.notice.archive;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브) 테이블로 옮겨진 공지사항 엔티티 클래스
+ * <p>
+ * - 번호는 원래 공지사항 번호를 그대로 사용하여 이동 후에도 같은 번호로 조회
+ * - Persistable: 번호가 미리 정해져 있어도 저장 시 존재 여부 SELECT 없이 바로 INSERT
+ * - 보관된 공지사항은 수정하지 않으므로 변경 메서드를 두지 않음
+ * - 게시 기간이 끝난 채로 옮겨진 공지사항은 게시 종료 시각(expireAt)으로 구분하여 노출하지 않음
+ * </p>
+ */
+@Entity
+@Table(name = "notices_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedNotice implements Persistable<Long> {
+    @Id
+    private Long noticeNo;
+
+    @Column(nullable = false)
+    private Long memberNo;
+
+    @Column(length = 255, nullable = false)
+    private String noticeTitle;
+
+    @Lob
+    @Column(nullable = false)
+    private String noticeContent;
+
+    @Lob
+    private String noticeContentHtml;
+
+    @Column(length = 300)
+    private String noticeExcerpt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private boolean isFixed;
+
+    private LocalDateTime publishAt;
+
+    private LocalDateTime expireAt;
+
+    /** 보관 테이블로 옮겨진 시각 */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /** 운영 테이블의 공지사항을 보관용 엔티티로 복사 */
+    public static ArchivedNotice from(Notice notice, LocalDateTime archivedAt) {
+        ArchivedNotice archived = new ArchivedNotice();
+        archived.noticeNo = notice.getNoticeNo();
+        archived.memberNo = notice.getMemberNo();
+        archived.noticeTitle = notice.getNoticeTitle();
+        archived.noticeContent = notice.getNoticeContent();
+        archived.noticeContentHtml = notice.getNoticeContentHtml();
+        archived.noticeExcerpt = notice.getNoticeExcerpt();
+        archived.createdAt = notice.getCreatedAt();
+        archived.isFixed = notice.isFixed();
+        archived.publishAt = notice.getPublishAt();
+        archived.expireAt = notice.getExpireAt();
+        archived.archivedAt = archivedAt;
+        return archived;
+    }
+
+    /** 지정한 시각에 노출되는지 여부 (게시 종료 시각이 지났으면 노출하지 않음) */
+    public boolean isVisibleAt(LocalDateTime now) {
+        return expireAt == null || expireAt.isAfter(now);
+    }
+
+    @Override
+    public Long getId() {
+        return noticeNo;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
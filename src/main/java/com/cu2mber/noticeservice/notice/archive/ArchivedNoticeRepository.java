@@ -0,0 +1,29 @@
+package com.cu2mber.noticeservice.notice.archive;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * 보관된 공지사항에 대한 데이터 액세스를 담당하는 리포지토리입니다.
+ */
+public interface ArchivedNoticeRepository extends JpaRepository<ArchivedNotice, Long> {
+
+    /** 보관된 공지사항 최신순 페이징 (게시 기간이 끝난 채로 옮겨진 공지사항 제외) */
+    @Query("SELECT a FROM ArchivedNotice a WHERE a.expireAt IS NULL ORDER BY a.createdAt DESC")
+    Page<ArchivedNotice> findAllArchivedWithPaging(Pageable pageable);
+
+    /** 보관된 공지사항 제목 검색 + 페이징 (게시 기간이 끝난 채로 옮겨진 공지사항 제외) */
+    @Query("SELECT a FROM ArchivedNotice a WHERE a.expireAt IS NULL AND a.noticeTitle LIKE %:keyword%")
+    Page<ArchivedNotice> findByNoticeTitleContaining(String keyword, Pageable pageable);
+
+    /**
+     * 보관된 공지사항 단건 삭제
+     * @return 삭제된 행의 수 (0이면 존재하지 않는 공지사항)
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedNotice a WHERE a.noticeNo = :noticeNo")
+    int deleteByNoticeNo(Long noticeNo);
+}
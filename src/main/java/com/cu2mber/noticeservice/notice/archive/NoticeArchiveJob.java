@@ -0,0 +1,121 @@
+package com.cu2mber.noticeservice.notice.archive;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 공지사항을 보관 테이블(notices_archive)로 옮기는 작업
+ * <p>
+ * 상단 고정되지 않았고 작성 후 {@code notice.archive.age}가 지난 공지사항을 번호 순으로 {@code chunk-size}건씩 읽어,
+ * 청크마다 하나의 트랜잭션에서 보관 테이블에 INSERT 후 운영 테이블에서 DELETE 합니다.
+ * 대상 행은 {@code FOR UPDATE SKIP LOCKED}로 잠근 채 읽으므로, 읽은 뒤 커밋된 수정이 보관 과정에서 사라지지 않고
+ * (수정은 청크 트랜잭션이 끝날 때까지 대기한 뒤 버전 충돌로 거절됨),
+ * 여러 노드에서 동시에 실행되어도 한 행은 한 노드만 옮깁니다.
+ * 운영 테이블이 최근 공지사항만 유지하므로 목록/검색/COUNT 쿼리 비용이 전체 누적 건수가 아닌 운영 데이터 크기에 비례합니다.
+ * </p>
+ * <ul>
+ * <li>게시 전이거나 게시 종료 시각이 남은 공지사항은 노출 전환이 끝날 때까지 운영 테이블에 남김</li>
+ * <li>게시 기간이 끝난 공지사항도 옮기며, 게시 종료 시각을 함께 보관하여 보관 테이블에서도 노출하지 않음</li>
+ * <li>옮긴 공지사항은 운영 테이블 기준으로 삭제 이벤트를 발행하여 캐시와 자동완성 인덱스에서 제거</li>
+ * <li>한 번 실행에 최대 {@code max-chunks}개 청크만 처리하여 실행 시간을 제한 (남은 행은 다음 실행에서 처리)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.archive.enabled", havingValue = "true")
+public class NoticeArchiveJob {
+
+    private final NoticeRepository noticeRepository;
+    private final ArchivedNoticeRepository archivedNoticeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration age;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Clock clock;
+
+    @Autowired
+    public NoticeArchiveJob(NoticeRepository noticeRepository,
+                            ArchivedNoticeRepository archivedNoticeRepository,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${notice.archive.age:180d}") Duration age,
+                            @Value("${notice.archive.chunk-size:500}") int chunkSize,
+                            @Value("${notice.archive.max-chunks:100}") int maxChunks) {
+        this(noticeRepository, archivedNoticeRepository, transactionTemplate, eventPublisher,
+                age, chunkSize, maxChunks, Clock.systemDefaultZone());
+    }
+
+    NoticeArchiveJob(NoticeRepository noticeRepository, ArchivedNoticeRepository archivedNoticeRepository,
+                     TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                     Duration age, int chunkSize, int maxChunks, Clock clock) {
+        this.noticeRepository = noticeRepository;
+        this.archivedNoticeRepository = archivedNoticeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.age = age;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.clock = clock;
+    }
+
+    /** 주기 실행 ({@code notice.archive.cron}, 기본 매일 04시) */
+    @Scheduled(cron = "${notice.archive.cron:0 0 4 * * *}")
+    public void run() {
+        archive();
+    }
+
+    /**
+     * 보관 대상 공지사항을 청크 단위로 이동
+     *
+     * @return 이동한 공지사항 수
+     */
+    public int archive() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime cutoff = now.minus(age);
+        int moved = 0;
+
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer count = transactionTemplate.execute(status -> archiveChunk(cutoff, now));
+            if (count == null || count == 0) {
+                break;
+            }
+            moved += count;
+        }
+
+        if (moved > 0) {
+            log.info("공지사항 보관 완료: {}건 (작성일 {} 이전)", moved, cutoff);
+        }
+        return moved;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff, LocalDateTime archivedAt) {
+        List<Notice> notices = noticeRepository.findArchiveCandidates(cutoff, archivedAt, Limit.of(chunkSize));
+        if (notices.isEmpty()) {
+            return 0;
+        }
+
+        archivedNoticeRepository.saveAll(notices.stream()
+                .map(notice -> ArchivedNotice.from(notice, archivedAt))
+                .toList());
+        List<Long> noticeNos = notices.stream().map(Notice::getNoticeNo).toList();
+        noticeRepository.deleteAllByNoticeNoIn(noticeNos);
+        noticeNos.forEach(noticeNo -> eventPublisher.publishEvent(NoticeChangedEvent.deleted(noticeNo)));
+        return notices.size();
+    }
+}
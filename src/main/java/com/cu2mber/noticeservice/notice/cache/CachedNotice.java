@@ -0,0 +1,38 @@
+package com.cu2mber.noticeservice.notice.cache;
+
+import com.cu2mber.noticeservice.notice.archive.ArchivedNotice;
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+
+/**
+ * 상세 캐시에 보관하는 공지사항 항목
+ * <p>
+ * 공지사항 행에서 만든 값만 보관하고 작성자 이름은 담지 않습니다.
+ * 이름은 조회할 때마다 {@code MemberNameResolver}(자체 캐시와 만료 시간을 가짐)로 붙이므로,
+ * 회원 디렉터리 장애 시의 임시 이름이나 변경 전 이름이 공지사항 캐시에 남지 않습니다.
+ * </p>
+ *
+ * @param memberNo 작성자 회원 번호
+ * @param notice   작성자 이름을 제외한 응답 ({@code memberName}은 {@code null})
+ */
+public record CachedNotice(
+        Long memberNo,
+        NoticeResponse notice
+) {
+    public static CachedNotice from(Notice notice) {
+        return new CachedNotice(notice.getMemberNo(), NoticeResponse.from(notice, null));
+    }
+
+    public static CachedNotice from(ArchivedNotice notice) {
+        return new CachedNotice(notice.getMemberNo(), NoticeResponse.from(notice, null));
+    }
+
+    public Long noticeNo() {
+        return notice.noticeNo();
+    }
+
+    /** 작성자 이름을 붙인 응답 */
+    public NoticeResponse withMemberName(String memberName) {
+        return notice.withMemberName(memberName);
+    }
+}
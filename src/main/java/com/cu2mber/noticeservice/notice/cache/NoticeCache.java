@@ -0,0 +1,110 @@
+package com.cu2mber.noticeservice.notice.cache;
+
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 공지사항 상세 응답을 보관하는 프로세스 내 LRU 캐시
+ * <p>
+ * 작성자 이름은 보관하지 않으며({@link CachedNotice}), 조회하는 쪽에서 매번 붙입니다.
+ * </p>
+ * <p>
+ * 최대 보관 개수({@code notice.cache.max-entries})를 넘으면 가장 오래 사용되지 않은 항목부터 제거하며,
+ * 공지사항이 수정/삭제되면 트랜잭션 커밋 이후 해당 항목을 제거합니다.
+ * 다른 노드에서 일어난 변경도 {@code NoticeInvalidationRelay}가 변경 이벤트로 다시 발행하므로 같은 방식으로 제거됩니다.
+ * </p>
+ * <p>
+ * DB에서 읽는 도중 변경이 커밋되어 항목이 제거되면, 읽어 둔 이전 값을 다시 넣지 않도록
+ * 읽기 전에 {@link #token()}을 받아 두고 {@link #put(CachedNotice, long)}에 전달합니다.
+ * 그 사이 해당 번호가 제거된 적이 있으면 저장하지 않습니다.
+ * 제거 기록은 최근 {@code max-entries}건만 유지하며, 잊힌 기록은 가장 늦은 잊힌 시점에 모두 제거된 것으로 간주합니다
+ * (판단이 어려우면 저장하지 않는 쪽으로 동작).
+ * </p>
+ */
+@Component
+public class NoticeCache {
+
+    private final Map<Long, CachedNotice> entries;
+
+    /** 번호별 마지막 제거 시점 (제거될 때마다 증가하는 순번) */
+    private final Map<Long, Long> evictedAt;
+    private long sequence;
+    private long forgottenUpTo;
+
+    public NoticeCache(@Value("${notice.cache.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedNotice> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.evictedAt = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                forgottenUpTo = Math.max(forgottenUpTo, eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /** DB에서 읽기 전에 받아 두는 저장 토큰 */
+    public synchronized long token() {
+        return sequence;
+    }
+
+    /** 단건 조회 */
+    public synchronized Optional<CachedNotice> get(Long noticeNo) {
+        return Optional.ofNullable(entries.get(noticeNo));
+    }
+
+    /** 여러 건 조회 (캐시에 있는 항목만 반환) */
+    public synchronized Map<Long, CachedNotice> getAll(Collection<Long> noticeNos) {
+        Map<Long, CachedNotice> found = new HashMap<>();
+        for (Long noticeNo : noticeNos) {
+            CachedNotice cached = entries.get(noticeNo);
+            if (cached != null) {
+                found.put(noticeNo, cached);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 토큰을 받은 뒤 제거된 적이 없을 때만 저장
+     *
+     * @param cached 저장할 항목
+     * @param token  DB에서 읽기 전에 받은 {@link #token()}
+     * @return 저장 여부
+     */
+    public synchronized boolean put(CachedNotice cached, long token) {
+        Long evicted = evictedAt.get(cached.noticeNo());
+        if ((evicted != null ? evicted : forgottenUpTo) > token) {
+            return false;
+        }
+        entries.put(cached.noticeNo(), cached);
+        return true;
+    }
+
+    public synchronized void evict(Long noticeNo) {
+        entries.remove(noticeNo);
+        evictedAt.remove(noticeNo);
+        evictedAt.put(noticeNo, ++sequence);
+    }
+
+    /** 공지사항이 변경되면 커밋 이후 캐시에서 제거 */
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        evict(event.noticeNo());
+    }
+}
@@ -1,33 +1,72 @@
 package com.cu2mber.noticeservice.notice.controller;
 
+import com.cu2mber.noticeservice.common.idempotency.IdempotencyStore;
+import com.cu2mber.noticeservice.common.idempotency.IdempotencyStore.IdempotentResult;
+import com.cu2mber.noticeservice.notice.dto.ContentFormat;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
 import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
 import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeSuggestion;
+import com.cu2mber.noticeservice.notice.dto.PageEnvelope;
 import com.cu2mber.noticeservice.notice.service.NoticeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 공지사항 관리를 위한 REST API 컨트롤러입니다.
  * CRUD 작업 및 페이징 기반의 검색 기능을 제공합니다.
+ * <p>조회 API는 {@code format} 파라미터(raw, html, excerpt)로 응답에 포함할 본문 형식을 선택할 수 있습니다.</p>
+ * <p>리액티브 프로필({@code reactive})에서는 함수형 엔드포인트가 같은 API를 제공하므로 등록하지 않습니다.</p>
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/notices")
 @RequiredArgsConstructor
 public class NoticeController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final NoticeService noticeService;
+    private final IdempotencyStore idempotencyStore;
 
-    /** 공지사항 등록 */
+    /**
+     * 공지사항 등록
+     * <p>
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키의 재시도는 다시 등록하지 않고 처음 등록한 결과를 반환하며,
+     * 재사용한 응답에는 {@code Idempotent-Replayed: true} 헤더를 추가합니다.
+     * </p>
+     */
     @PostMapping
     public ResponseEntity<NoticeResponse> createNotice(@Valid @RequestBody NoticeRequest request,
                                                        @RequestHeader("X-Role") String role,
-                                                       @RequestHeader("X-Member-No") Long memberNo) {
-        NoticeResponse notice = noticeService.createNotice(request, role, memberNo);
-        return ResponseEntity.status(HttpStatus.CREATED).body(notice);
+                                                       @RequestHeader("X-Member-No") Long memberNo,
+                                                       @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            NoticeResponse notice = noticeService.createNotice(request, role, memberNo);
+            return ResponseEntity.status(HttpStatus.CREATED).body(notice.in(ContentFormat.RAW));
+        }
+
+        // 키는 작성자 범위로 한정하여 다른 사용자의 결과가 재사용되지 않도록 함
+        IdempotentResult<NoticeResponse> result = idempotencyStore.execute(
+                memberNo,
+                idempotencyKey,
+                IdempotencyStore.fingerprint(role, request.getNoticeTitle(), request.getNoticeContent(), request.getIsFixed(),
+                        request.getPublishAt(), request.getExpireAt()),
+                () -> noticeService.createNotice(request, role, memberNo));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        if (result.replayed()) {
+            response.header(IDEMPOTENT_REPLAYED, "true");
+        }
+        return response.body(result.value().in(ContentFormat.RAW));
     }
 
     /** 공지사항 수정 */
@@ -36,31 +75,63 @@ public class NoticeController {
                                                        @Valid @RequestBody NoticeRequest request,
                                                        @RequestHeader("X-Role") String role){
         NoticeResponse response = noticeService.updateNotice(noticeNo, request, role);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.in(ContentFormat.RAW));
     }
 
-    /** 공지사항 삭제 */
+    /** 공지사항 삭제 ({@code archived=true}이면 보관된 공지사항 삭제) */
     @DeleteMapping("/{notice-no}")
     public ResponseEntity<Void> deleteNotice(@PathVariable("notice-no") Long noticeNo,
-                                             @RequestHeader("X-Role") String role){
-        noticeService.deleteNotice(noticeNo, role);
+                                             @RequestHeader("X-Role") String role,
+                                             @RequestParam(defaultValue = "false") boolean archived){
+        if (archived) {
+            noticeService.deleteArchivedNotice(noticeNo, role);
+        } else {
+            noticeService.deleteNotice(noticeNo, role);
+        }
         return ResponseEntity.noContent().build();
     }
 
     /** 공지사항 상세 조회 */
     @GetMapping("/{notice-no}")
-    public ResponseEntity<NoticeResponse> getNotice(@PathVariable("notice-no") Long noticeNo) {
+    public ResponseEntity<NoticeResponse> getNotice(@PathVariable("notice-no") Long noticeNo,
+                                                    @RequestParam(required = false) String format) {
+        ContentFormat contentFormat = ContentFormat.from(format);
         NoticeResponse response = noticeService.getNotice(noticeNo);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.in(contentFormat));
     }
 
-    /** 공지사항 목록 조회 (페이징 및 키워드 검색) */
+    /** 공지사항 다건 조회 (예: /api/notices?ids=1,2,3) */
+    @GetMapping(params = "ids")
+    public ResponseEntity<NoticeBulkResponse> getNoticesByIds(@RequestParam List<Long> ids,
+                                                              @RequestParam(required = false) String format) {
+        ContentFormat contentFormat = ContentFormat.from(format);
+        NoticeBulkResponse response = noticeService.getNoticesByIds(ids);
+        return ResponseEntity.ok(response.in(contentFormat));
+    }
+
+    /**
+     * 공지사항 목록 조회 (페이징 및 키워드 검색, {@code archived=true}이면 보관된 공지사항 조회)
+     * <p>응답은 {@link PageEnvelope} 형식(items, page, size, total, hasNext)입니다.</p>
+     */
     @GetMapping
-    public ResponseEntity<Page<NoticeResponse>> getAllNotices(
+    public ResponseEntity<PageEnvelope<NoticeResponse>> getAllNotices(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String keyword) {
-        Page<NoticeResponse> responses = noticeService.getAllNotices(page, size, keyword);
-        return ResponseEntity.ok(responses);
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean archived) {
+        ContentFormat contentFormat = ContentFormat.from(format);
+        Page<NoticeResponse> responses = archived
+                ? noticeService.getArchivedNotices(page, size, keyword)
+                : noticeService.getAllNotices(page, size, keyword);
+        return ResponseEntity.ok(PageEnvelope.of(responses, response -> response.in(contentFormat)));
+    }
+
+    /** 공지사항 제목 자동완성 */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<NoticeSuggestion>> suggestTitles(@RequestParam("q") String query,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        List<NoticeSuggestion> suggestions = noticeService.suggestTitles(query, limit);
+        return ResponseEntity.ok(suggestions);
     }
 }
\ No newline at end of file
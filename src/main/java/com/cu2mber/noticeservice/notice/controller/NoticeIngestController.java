@@ -0,0 +1,47 @@
+package com.cu2mber.noticeservice.notice.controller;
+
+import com.cu2mber.noticeservice.common.exception.custom.IngestTicketNotFoundException;
+import com.cu2mber.noticeservice.notice.dto.NoticeIngestResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.ingest.IngestTicket;
+import com.cu2mber.noticeservice.notice.ingest.NoticeIngestPipeline;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * 공지사항 비동기 등록(그룹 커밋) REST API 컨트롤러입니다.
+ * 관리 도구, 예약 시스템 공지 등 대량 등록 요청을 대기열에 넣고 202와 상태 조회 경로를 반환합니다.
+ * 설정 {@code notice.ingest.async.enabled=true}일 때만 활성화됩니다.
+ */
+@RestController
+@RequestMapping("/api/notices/ingest")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.ingest.async.enabled", havingValue = "true")
+public class NoticeIngestController {
+
+    private final NoticeIngestPipeline noticeIngestPipeline;
+
+    /** 공지사항 비동기 등록 요청 */
+    @PostMapping
+    public ResponseEntity<NoticeIngestResponse> submitNotice(@Valid @RequestBody NoticeRequest request,
+                                                             @RequestHeader("X-Role") String role,
+                                                             @RequestHeader("X-Member-No") Long memberNo) {
+        IngestTicket ticket = noticeIngestPipeline.submit(request, role, memberNo);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/notices/ingest/" + ticket.getTicketId()))
+                .body(NoticeIngestResponse.from(ticket));
+    }
+
+    /** 비동기 등록 처리 상태 조회 */
+    @GetMapping("/{ticket-id}")
+    public ResponseEntity<NoticeIngestResponse> getStatus(@PathVariable("ticket-id") String ticketId) {
+        IngestTicket ticket = noticeIngestPipeline.findTicket(ticketId)
+                .orElseThrow(() -> new IngestTicketNotFoundException());
+        return ResponseEntity.ok(NoticeIngestResponse.from(ticket));
+    }
+}
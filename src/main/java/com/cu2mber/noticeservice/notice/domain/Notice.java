@@ -1,10 +1,14 @@
 package com.cu2mber.noticeservice.notice.domain;
 
+import com.cu2mber.noticeservice.notice.render.NoticeContentRenderer;
+import com.cu2mber.noticeservice.notice.render.RenderedContent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -15,10 +19,16 @@ import java.time.LocalDateTime;
  * <p>
  * - AuditingEntityListener: 생성일(createdAt) 자동 기록 활성화
  * - NoArgsConstructor: 무분별한 객체 생성 방지를 위한 접근 제어(PROTECTED) 적용
+ * - DynamicUpdate: 변경된 컬럼만 UPDATE 하여 제목만 수정할 때 본문(@Lob)을 다시 쓰지 않음
+ * - 본문이 저장/변경될 때 렌더링된 HTML과 요약문을 함께 저장하여 조회 시 렌더링하지 않음
+ * - 게시 기간(publishAt ~ expireAt)에 따른 노출 여부를 visible 컬럼에 저장하여 목록 쿼리가 시각 비교 없이 노출 여부만 확인
+ *   (기간 경계에서의 변경은 {@code NoticeVisibilityEngine}이 처리)
+ * - Version: 변경될 때마다 증가하며, 노드 간 캐시 무효화 메시지의 순서 판단에 사용 (동시 수정은 낙관적 락으로 하나만 반영)
  * </p>
  */
 @Entity
 @Table(name="notices")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -37,6 +47,14 @@ public class Notice {
     @Column(nullable = false)
     private String noticeContent;
 
+    /** 렌더링된 본문 HTML (기존 행은 재생성 작업 전까지 null) */
+    @Lob
+    private String noticeContentHtml;
+
+    /** 서식을 제거한 본문 요약문 */
+    @Column(length = 300)
+    private String noticeExcerpt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -44,18 +62,91 @@ public class Notice {
     @Column(nullable = false)
     private boolean isFixed;
 
+    /** 게시 시작 시각 (null이면 등록 즉시 게시) */
+    private LocalDateTime publishAt;
+
+    /** 게시 종료 시각 (null이면 종료 없음) */
+    private LocalDateTime expireAt;
+
+    /** 현재 노출 여부 (게시 기간 안이면 true) - 컬럼 추가 시 기존 행은 노출 상태로 시작 */
+    @ColumnDefault("true")
+    @Column(nullable = false)
+    private boolean visible;
+
+    /** 변경 버전 (UPDATE마다 증가) */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
-    public Notice(Long memberNo, String noticeTitle, String noticeContent, Boolean isFixed) {
+    public Notice(Long memberNo, String noticeTitle, String noticeContent, Boolean isFixed,
+                  LocalDateTime publishAt, LocalDateTime expireAt) {
         this.memberNo = memberNo;
         this.noticeTitle = noticeTitle;
         this.noticeContent = noticeContent;
         this.isFixed = (isFixed != null) ? isFixed : false;
+        this.publishAt = publishAt;
+        this.expireAt = expireAt;
+        this.visible = isVisibleAt(LocalDateTime.now());
+        applyRendered(NoticeContentRenderer.render(noticeContent));
     }
 
     public void update(String title, String content, Boolean isFixed) {
         if (title != null) this.noticeTitle = title;
-        if (content != null) this.noticeContent = content;
+        if (content != null && !content.equals(this.noticeContent)) {
+            this.noticeContent = content;
+            applyRendered(NoticeContentRenderer.render(content));
+        }
         if (isFixed != null) this.isFixed = isFixed;
     }
 
+    /**
+     * 게시 기간 변경 (null인 값은 기존 값 유지) 후 현재 시각 기준으로 노출 여부 갱신
+     */
+    public void reschedule(LocalDateTime publishAt, LocalDateTime expireAt) {
+        if (publishAt != null) this.publishAt = publishAt;
+        if (expireAt != null) this.expireAt = expireAt;
+        refreshVisibility(LocalDateTime.now());
+    }
+
+    /** 주어진 시각에 게시 기간 안인지 여부 */
+    public boolean isVisibleAt(LocalDateTime now) {
+        return (publishAt == null || !publishAt.isAfter(now))
+                && (expireAt == null || expireAt.isAfter(now));
+    }
+
+    /**
+     * 주어진 시각 기준으로 노출 여부 갱신
+     *
+     * @return 노출 여부가 바뀌었는지 여부
+     */
+    public boolean refreshVisibility(LocalDateTime now) {
+        boolean visibleNow = isVisibleAt(now);
+        if (visibleNow == visible) {
+            return false;
+        }
+        this.visible = visibleNow;
+        return true;
+    }
+
+    /**
+     * 현재 본문으로 HTML과 요약문을 다시 생성 (렌더러 변경 시 기존 행 재생성용)
+     *
+     * @return 저장된 값이 달라졌는지 여부
+     */
+    public boolean rerender() {
+        RenderedContent rendered = NoticeContentRenderer.render(noticeContent);
+        if (rendered.html().equals(noticeContentHtml) && rendered.excerpt().equals(noticeExcerpt)) {
+            return false;
+        }
+        applyRendered(rendered);
+        return true;
+    }
+
+    private void applyRendered(RenderedContent rendered) {
+        this.noticeContentHtml = rendered.html();
+        this.noticeExcerpt = rendered.excerpt();
+    }
+
 }
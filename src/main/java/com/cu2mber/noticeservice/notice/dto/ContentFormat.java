@@ -0,0 +1,33 @@
+package com.cu2mber.noticeservice.notice.dto;
+
+import com.cu2mber.noticeservice.common.exception.custom.InvalidContentFormatException;
+
+import java.util.Locale;
+
+/**
+ * 공지사항 응답에 포함할 본문 형식
+ * <ul>
+ * <li>RAW: 작성된 원문 (기본값)</li>
+ * <li>HTML: 작성 시 렌더링된 HTML (이스케이프 처리됨)</li>
+ * <li>EXCERPT: 서식을 제거한 요약문 (목록 화면용)</li>
+ * </ul>
+ */
+public enum ContentFormat {
+    RAW, HTML, EXCERPT;
+
+    /**
+     * 요청 파라미터 값을 형식으로 변환 (대소문자 구분 없음)
+     *
+     * @throws InvalidContentFormatException 지원하지 않는 형식인 경우 발생
+     */
+    public static ContentFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return RAW;
+        }
+        try {
+            return valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidContentFormatException();
+        }
+    }
+}
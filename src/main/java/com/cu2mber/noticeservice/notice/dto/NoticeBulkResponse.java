@@ -0,0 +1,21 @@
+package com.cu2mber.noticeservice.notice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 여러 공지사항을 번호로 한 번에 조회한 결과를 반환하는 응답 객체입니다.
+ */
+public record NoticeBulkResponse(
+        @Schema(description = "조회된 공지사항 목록 (요청한 번호 순서 유지)")
+        List<NoticeResponse> notices,
+
+        @Schema(description = "존재하지 않거나 DB 장애로 조회할 수 없는 공지사항 번호 목록")
+        List<Long> missingIds
+) {
+    /** 요청한 본문 형식만 남긴 응답 */
+    public NoticeBulkResponse in(ContentFormat format) {
+        return new NoticeBulkResponse(notices.stream().map(notice -> notice.in(format)).toList(), missingIds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.cu2mber.noticeservice.notice.dto;
+
+import com.cu2mber.noticeservice.notice.ingest.IngestTicket;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 비동기 등록 요청의 처리 상태를 반환하는 응답 객체입니다.
+ */
+public record NoticeIngestResponse(
+        @Schema(description = "등록 요청 식별자 (상태 조회에 사용)")
+        String ticketId,
+
+        @Schema(description = "처리 상태 (QUEUED, COMPLETED, FAILED)")
+        IngestTicket.State state,
+
+        @Schema(description = "등록된 공지사항 번호 (COMPLETED일 때만)")
+        Long noticeNo
+) {
+    /** 티켓을 응답 DTO로 변환 */
+    public static NoticeIngestResponse from(IngestTicket ticket) {
+        return new NoticeIngestResponse(ticket.getTicketId(), ticket.getState(), ticket.getNoticeNo());
+    }
+}
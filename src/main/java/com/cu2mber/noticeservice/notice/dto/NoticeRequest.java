@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 공지사항 생성을 위한 요청 DTO 클래스
  * <p>필드 설명:</p>
@@ -12,6 +14,7 @@ import lombok.NoArgsConstructor;
  * <li>isFixed: 클라이언트의 명시적 요청 여부를 확인하기 위해 래퍼 클래스(Boolean)를 사용합니다.
  * 값이 누락될 경우 기본값인 false로 처리되지만, 필요한 경우 @NotNull을 통해
  * 클라이언트에게 필수 입력을 강제할 수 있는 유연성을 제공합니다.</li>
+ * <li>publishAt / expireAt: 게시 기간 (선택 사항). 수정 시 null이면 기존 값을 유지합니다.</li>
  * </ul>
  */
 @Getter
@@ -28,9 +31,22 @@ public class NoticeRequest {
     @Schema(description = "상단 고정 여부 (기본값: false)")
     private Boolean isFixed = false;
 
+    @Schema(description = "게시 시작 시각 (미입력 시 즉시 게시)")
+    private LocalDateTime publishAt;
+
+    @Schema(description = "게시 종료 시각 (미입력 시 종료 없음)")
+    private LocalDateTime expireAt;
+
     public NoticeRequest(String noticeTitle, String noticeContent, Boolean isFixed){
         this.noticeTitle=noticeTitle;
         this.noticeContent=noticeContent;
         this.isFixed=isFixed;
     }
+
+    public NoticeRequest(String noticeTitle, String noticeContent, Boolean isFixed,
+                         LocalDateTime publishAt, LocalDateTime expireAt){
+        this(noticeTitle, noticeContent, isFixed);
+        this.publishAt=publishAt;
+        this.expireAt=expireAt;
+    }
 }
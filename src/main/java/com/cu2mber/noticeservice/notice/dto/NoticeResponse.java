@@ -1,12 +1,20 @@
 package com.cu2mber.noticeservice.notice.dto;
 
+import com.cu2mber.noticeservice.notice.archive.ArchivedNotice;
 import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.render.NoticeContentRenderer;
+import com.cu2mber.noticeservice.notice.render.RenderedContent;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 
 /**
  * 공지사항 정보를 반환하는 응답 객체입니다.
+ * <p>
+ * 본문은 원문, 렌더링된 HTML, 요약문을 모두 보관하며,
+ * {@link #in(ContentFormat)}로 요청한 형식만 남긴 응답을 만듭니다(나머지 형식은 JSON에서 생략).
+ * </p>
  */
 public record NoticeResponse(
         @Schema(description = "공지사항 번호")
@@ -15,7 +23,8 @@ public record NoticeResponse(
         @Schema(description = "공지사항 제목")
         String noticeTitle,
 
-        @Schema(description = "공지사항 내용")
+        @Schema(description = "공지사항 내용 (format=raw)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         String noticeContent,
 
         @Schema(description = "상단 고정 여부")
@@ -25,17 +34,94 @@ public record NoticeResponse(
         String memberName,
 
         @Schema(description = "작성일")
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+
+        @Schema(description = "렌더링된 공지사항 내용 HTML (format=html)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String noticeContentHtml,
+
+        @Schema(description = "공지사항 내용 요약문 (format=excerpt)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String noticeExcerpt
 ) {
-    /** 엔티티를 응답 DTO로 변환 */
-    public static NoticeResponse from(Notice notice) {
+    /** 원문만 포함하는 응답 */
+    public NoticeResponse(Long noticeNo, String noticeTitle, String noticeContent, boolean isFixed,
+                          String memberName, LocalDateTime createdAt) {
+        this(noticeNo, noticeTitle, noticeContent, isFixed, memberName, createdAt, null, null);
+    }
+
+    /**
+     * 엔티티를 응답 DTO로 변환
+     *
+     * @param notice     공지사항 엔티티
+     * @param memberName 작성자 이름 ({@code MemberNameResolver}로 조회한 값)
+     */
+    public static NoticeResponse from(Notice notice, String memberName) {
+        String html = notice.getNoticeContentHtml();
+        String excerpt = notice.getNoticeExcerpt();
+        if (html == null || excerpt == null) {
+            // 재생성 작업 전의 기존 행
+            RenderedContent rendered = NoticeContentRenderer.render(notice.getNoticeContent());
+            html = rendered.html();
+            excerpt = rendered.excerpt();
+        }
+
+        return new NoticeResponse(
+                notice.getNoticeNo(),
+                notice.getNoticeTitle(),
+                notice.getNoticeContent(),
+                notice.isFixed(),
+                memberName,
+                notice.getCreatedAt(),
+                html,
+                excerpt
+        );
+    }
+
+    /**
+     * 보관된 공지사항을 응답 DTO로 변환
+     *
+     * @param notice     보관된 공지사항 엔티티
+     * @param memberName 작성자 이름
+     */
+    public static NoticeResponse from(ArchivedNotice notice, String memberName) {
+        String html = notice.getNoticeContentHtml();
+        String excerpt = notice.getNoticeExcerpt();
+        if (html == null || excerpt == null) {
+            RenderedContent rendered = NoticeContentRenderer.render(notice.getNoticeContent());
+            html = rendered.html();
+            excerpt = rendered.excerpt();
+        }
+
         return new NoticeResponse(
                 notice.getNoticeNo(),
                 notice.getNoticeTitle(),
                 notice.getNoticeContent(),
                 notice.isFixed(),
-                "관리자",
-                notice.getCreatedAt()
+                memberName,
+                notice.getCreatedAt(),
+                html,
+                excerpt
+        );
+    }
+
+    /** 작성자 이름만 바꾼 응답 */
+    public NoticeResponse withMemberName(String memberName) {
+        return new NoticeResponse(noticeNo, noticeTitle, noticeContent, isFixed, memberName, createdAt,
+                noticeContentHtml, noticeExcerpt);
+    }
+
+    /** 요청한 본문 형식만 남긴 응답 */
+    public NoticeResponse in(ContentFormat format) {
+        return new NoticeResponse(
+                noticeNo,
+                noticeTitle,
+                format == ContentFormat.RAW ? noticeContent : null,
+                isFixed,
+                memberName,
+                createdAt,
+                format == ContentFormat.HTML ? noticeContentHtml : null,
+                format == ContentFormat.EXCERPT ? noticeExcerpt : null
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.cu2mber.noticeservice.notice.dto;
+
+import com.cu2mber.noticeservice.notice.search.NoticeTitleEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 공지사항 제목 자동완성 결과를 반환하는 응답 객체입니다.
+ */
+public record NoticeSuggestion(
+        @Schema(description = "공지사항 번호")
+        Long noticeNo,
+
+        @Schema(description = "공지사항 제목")
+        String noticeTitle,
+
+        @Schema(description = "상단 고정 여부")
+        boolean isFixed
+) {
+    /** 인덱스 항목을 응답 DTO로 변환 */
+    public static NoticeSuggestion from(NoticeTitleEntry entry) {
+        return new NoticeSuggestion(entry.noticeNo(), entry.noticeTitle(), entry.isFixed());
+    }
+}
@@ -0,0 +1,44 @@
+package com.cu2mber.noticeservice.notice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 페이징 목록 응답 객체입니다.
+ * <p>
+ * Spring Data의 {@link Page}를 그대로 직렬화하면 {@code Pageable}, {@code Sort} 등 내부 구조까지 노출되므로,
+ * 클라이언트에 필요한 값만 담아 반환합니다. 직렬화는 {@code PageEnvelopeSerializer}가 담당합니다.
+ * </p>
+ *
+ * @param <T> 목록 항목 타입
+ */
+public record PageEnvelope<T>(
+        @Schema(description = "현재 페이지의 항목 목록")
+        List<T> items,
+
+        @Schema(description = "페이지 번호 (0부터 시작)")
+        int page,
+
+        @Schema(description = "페이지 크기")
+        int size,
+
+        @Schema(description = "전체 항목 수")
+        long total,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+    /** 항목을 변환하며 페이지 결과를 응답 객체로 변환 (중간 Page 객체를 만들지 않음) */
+    public static <S, T> PageEnvelope<T> of(Page<S> page, Function<? super S, ? extends T> mapper) {
+        List<S> content = page.getContent();
+        List<T> items = new ArrayList<>(content.size());
+        for (S item : content) {
+            items.add(mapper.apply(item));
+        }
+        return new PageEnvelope<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.hasNext());
+    }
+}
@@ -0,0 +1,78 @@
+package com.cu2mber.noticeservice.notice.dto.json;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * {@link NoticeResponse} 전용 JSON 직렬화기
+ * <p>
+ * 리플렉션 기반 Bean 직렬화 대신 필드를 순서대로 직접 기록하며, 필드 이름은 미리 인코딩한 값을 재사용합니다.
+ * 출력 형식은 기본 직렬화와 같습니다: 본문 필드(noticeContent, noticeContentHtml, noticeExcerpt)는 null이면 생략하고,
+ * 작성일은 ISO-8601 문자열로 기록합니다.
+ * </p>
+ */
+@JsonComponent
+public class NoticeResponseSerializer extends StdSerializer<NoticeResponse> {
+
+    private static final SerializableString NOTICE_NO = new SerializedString("noticeNo");
+    private static final SerializableString NOTICE_TITLE = new SerializedString("noticeTitle");
+    private static final SerializableString NOTICE_CONTENT = new SerializedString("noticeContent");
+    private static final SerializableString IS_FIXED = new SerializedString("isFixed");
+    private static final SerializableString MEMBER_NAME = new SerializedString("memberName");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString NOTICE_CONTENT_HTML = new SerializedString("noticeContentHtml");
+    private static final SerializableString NOTICE_EXCERPT = new SerializedString("noticeExcerpt");
+
+    public NoticeResponseSerializer() {
+        super(NoticeResponse.class);
+    }
+
+    @Override
+    public void serialize(NoticeResponse notice, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(notice);
+
+        gen.writeFieldName(NOTICE_NO);
+        if (notice.noticeNo() != null) {
+            gen.writeNumber(notice.noticeNo());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeFieldName(NOTICE_TITLE);
+        gen.writeString(notice.noticeTitle());
+        writeOptional(gen, NOTICE_CONTENT, notice.noticeContent());
+        gen.writeFieldName(IS_FIXED);
+        gen.writeBoolean(notice.isFixed());
+        gen.writeFieldName(MEMBER_NAME);
+        gen.writeString(notice.memberName());
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(gen, notice.createdAt());
+        writeOptional(gen, NOTICE_CONTENT_HTML, notice.noticeContentHtml());
+        writeOptional(gen, NOTICE_EXCERPT, notice.noticeExcerpt());
+
+        gen.writeEndObject();
+    }
+
+    private static void writeOptional(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value != null) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        } else {
+            gen.writeNull();
+        }
+    }
+}
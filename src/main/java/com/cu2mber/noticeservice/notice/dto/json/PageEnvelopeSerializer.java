@@ -0,0 +1,67 @@
+package com.cu2mber.noticeservice.notice.dto.json;
+
+import com.cu2mber.noticeservice.notice.dto.PageEnvelope;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * {@link PageEnvelope} 전용 JSON 직렬화기
+ * <p>
+ * 항목 직렬화기는 항목 타입이 바뀔 때만 조회하여 재사용하고(같은 타입 목록이면 한 번),
+ * 중간 트리({@code JsonNode}) 없이 출력 스트림에 바로 기록합니다.
+ * </p>
+ */
+@JsonComponent
+@SuppressWarnings("rawtypes")
+public class PageEnvelopeSerializer extends StdSerializer<PageEnvelope> {
+
+    private static final SerializableString ITEMS = new SerializedString("items");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL = new SerializedString("total");
+    private static final SerializableString HAS_NEXT = new SerializedString("hasNext");
+
+    public PageEnvelopeSerializer() {
+        super(PageEnvelope.class);
+    }
+
+    @Override
+    public void serialize(PageEnvelope envelope, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(envelope);
+
+        gen.writeFieldName(ITEMS);
+        gen.writeStartArray(envelope.items(), envelope.items().size());
+        Class<?> itemType = null;
+        JsonSerializer<Object> itemSerializer = null;
+        for (Object item : envelope.items()) {
+            if (item == null) {
+                gen.writeNull();
+                continue;
+            }
+            if (item.getClass() != itemType) {
+                itemType = item.getClass();
+                itemSerializer = provider.findValueSerializer(itemType);
+            }
+            itemSerializer.serialize(item, gen, provider);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(PAGE);
+        gen.writeNumber(envelope.page());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(envelope.size());
+        gen.writeFieldName(TOTAL);
+        gen.writeNumber(envelope.total());
+        gen.writeFieldName(HAS_NEXT);
+        gen.writeBoolean(envelope.hasNext());
+
+        gen.writeEndObject();
+    }
+}
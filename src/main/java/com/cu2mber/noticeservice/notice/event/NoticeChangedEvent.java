@@ -0,0 +1,54 @@
+package com.cu2mber.noticeservice.notice.event;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+
+/**
+ * 공지사항 변경(등록/수정/삭제) 이벤트
+ * <p>
+ * 서비스 계층에서 발행하며, 캐시 등 파생 데이터를 관리하는 컴포넌트가
+ * 트랜잭션 커밋 이후({@code @TransactionalEventListener}) 구독하여 갱신합니다.
+ * </p>
+ *
+ * @param noticeNo   변경된 공지사항 번호
+ * @param type       변경 유형
+ * @param notice     변경 후 엔티티 스냅샷 (삭제 시 {@code null})
+ * @param replicated 다른 노드에서 일어난 변경을 이 노드에 반영하는 이벤트인지 여부 (무효화 메시지로 다시 발행하지 않음)
+ */
+public record NoticeChangedEvent(
+        Long noticeNo,
+        ChangeType type,
+        Notice notice,
+        boolean replicated
+) {
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public NoticeChangedEvent(Long noticeNo, ChangeType type, Notice notice) {
+        this(noticeNo, type, notice, false);
+    }
+
+    public static NoticeChangedEvent created(Notice notice) {
+        return new NoticeChangedEvent(notice.getNoticeNo(), ChangeType.CREATED, notice);
+    }
+
+    public static NoticeChangedEvent updated(Notice notice) {
+        return new NoticeChangedEvent(notice.getNoticeNo(), ChangeType.UPDATED, notice);
+    }
+
+    public static NoticeChangedEvent deleted(Long noticeNo) {
+        return new NoticeChangedEvent(noticeNo, ChangeType.DELETED, null);
+    }
+
+    /**
+     * 다른 노드의 변경을 반영하는 이벤트
+     *
+     * @param noticeNo 변경된 공지사항 번호
+     * @param notice   DB에서 다시 읽은 최신 엔티티 (삭제되었거나 보관 테이블로 옮겨졌으면 {@code null})
+     */
+    public static NoticeChangedEvent replicated(Long noticeNo, Notice notice) {
+        return notice != null
+                ? new NoticeChangedEvent(noticeNo, ChangeType.UPDATED, notice, true)
+                : new NoticeChangedEvent(noticeNo, ChangeType.DELETED, null, true);
+    }
+}
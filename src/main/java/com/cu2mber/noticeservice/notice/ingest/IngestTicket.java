@@ -0,0 +1,58 @@
+package com.cu2mber.noticeservice.notice.ingest;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 등록 대기열에 들어간 공지사항 한 건과 그 처리 결과
+ * <p>
+ * 애플리케이션 내부 호출자는 {@link #getFuture()}로 완료를 기다리고,
+ * HTTP 호출자는 {@link #getTicketId()}로 처리 상태를 조회합니다.
+ * </p>
+ */
+@Getter
+public class IngestTicket {
+
+    public enum State {
+        QUEUED, COMPLETED, FAILED
+    }
+
+    private final String ticketId = UUID.randomUUID().toString();
+    private final NoticeRequest request;
+    private final Long memberNo;
+    private final CompletableFuture<NoticeResponse> future = new CompletableFuture<>();
+
+    /** 처리 완료 시각 (보관 기간 계산용, 미완료 시 0) */
+    private volatile long completedAtMillis;
+
+    IngestTicket(NoticeRequest request, Long memberNo) {
+        this.request = request;
+        this.memberNo = memberNo;
+    }
+
+    public State getState() {
+        if (!future.isDone()) {
+            return State.QUEUED;
+        }
+        return future.isCompletedExceptionally() ? State.FAILED : State.COMPLETED;
+    }
+
+    /** 등록된 공지사항 번호 (완료 전이거나 실패한 경우 {@code null}) */
+    public Long getNoticeNo() {
+        return getState() == State.COMPLETED ? future.join().noticeNo() : null;
+    }
+
+    void complete(NoticeResponse response) {
+        completedAtMillis = System.currentTimeMillis();
+        future.complete(response);
+    }
+
+    void fail(Throwable cause) {
+        completedAtMillis = System.currentTimeMillis();
+        future.completeExceptionally(cause);
+    }
+}
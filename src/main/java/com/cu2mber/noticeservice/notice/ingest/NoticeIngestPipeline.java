@@ -0,0 +1,211 @@
+package com.cu2mber.noticeservice.notice.ingest;
+
+import com.cu2mber.noticeservice.common.exception.custom.AdminForbiddenException;
+import com.cu2mber.noticeservice.common.exception.custom.IngestQueueFullException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidNoticeScheduleException;
+import com.cu2mber.noticeservice.member.MemberNameResolver;
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 공지사항 비동기 등록을 위한 그룹 커밋 파이프라인
+ * <p>
+ * 등록 요청은 크기가 제한된 대기열에 들어가고, 단일 작성 스레드가 대기열을 최대 {@code batch-size}건씩 꺼내
+ * 하나의 트랜잭션으로 저장합니다. 요청마다 발생하던 커밋(fsync)이 배치당 한 번으로 줄어듭니다.
+ * 대기열이 가득 차면 {@link IngestQueueFullException}(503)으로 즉시 거절하여 호출자에게 배압을 전달합니다.
+ * </p>
+ * <p>
+ * 배치 트랜잭션이 실패하면 원인이 된 요청만 실패 처리하기 위해 건별 트랜잭션으로 다시 저장합니다.
+ * 처리 결과(티켓)는 완료 후 {@code ticket-ttl} 동안 보관되어 상태 조회에 사용됩니다.
+ * </p>
+ * <p>
+ * 게시 기간(publishAt ~ expireAt)은 동기 등록과 같이 대기열에 넣기 전에 검증하고 그대로 저장하며,
+ * 커밋 이후 등록 이벤트로 {@code NoticeVisibilityEngine}에 다음 전환 시각이 예약됩니다.
+ * </p>
+ * <p>설정 {@code notice.ingest.async.enabled=true}일 때만 활성화됩니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.ingest.async.enabled", havingValue = "true")
+public class NoticeIngestPipeline {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long EXPIRY_INTERVAL_MILLIS = 1000;
+
+    private final NoticeRepository noticeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberNameResolver memberNameResolver;
+    private final BlockingQueue<IngestTicket> queue;
+    private final int batchSize;
+    private final long ticketTtlMillis;
+    private final Map<String, IngestTicket> tickets = new ConcurrentHashMap<>();
+
+    private volatile boolean stopped;
+    private Thread writer;
+    private long lastExpiryMillis;
+
+    public NoticeIngestPipeline(NoticeRepository noticeRepository,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                MemberNameResolver memberNameResolver,
+                                @Value("${notice.ingest.queue-capacity:10000}") int queueCapacity,
+                                @Value("${notice.ingest.batch-size:200}") int batchSize,
+                                @Value("${notice.ingest.ticket-ttl:10m}") Duration ticketTtl) {
+        this.noticeRepository = noticeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.memberNameResolver = memberNameResolver;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.ticketTtlMillis = ticketTtl.toMillis();
+    }
+
+    /**
+     * 공지사항 등록 요청을 대기열에 추가
+     *
+     * @param request  등록할 공지사항 정보
+     * @param role     요청자의 권한 (ROLE_ADMIN 필요)
+     * @param memberNo 작성자 식별 번호
+     * @return 처리 결과를 기다리거나 조회할 수 있는 티켓
+     * @throws AdminForbiddenException        관리자 권한이 없는 경우 발생
+     * @throws InvalidNoticeScheduleException 게시 종료 시각이 게시 시작 시각 이후가 아닌 경우 발생
+     * @throws IngestQueueFullException       대기열이 가득 찼거나 종료 중인 경우 발생
+     */
+    public IngestTicket submit(NoticeRequest request, String role, Long memberNo) {
+        if (!"ROLE_ADMIN".equals(role)) {
+            throw new AdminForbiddenException();
+        }
+        if (request.getPublishAt() != null && request.getExpireAt() != null
+                && !request.getExpireAt().isAfter(request.getPublishAt())) {
+            throw new InvalidNoticeScheduleException();
+        }
+
+        IngestTicket ticket = new IngestTicket(request, memberNo);
+        tickets.put(ticket.getTicketId(), ticket);
+        if (stopped || !queue.offer(ticket)) {
+            tickets.remove(ticket.getTicketId());
+            throw new IngestQueueFullException();
+        }
+        return ticket;
+    }
+
+    /** 티켓 조회 (완료 후 보관 기간이 지난 티켓은 조회되지 않음) */
+    public Optional<IngestTicket> findTicket(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId));
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::drainLoop, "notice-ingest-writer");
+        writer.start();
+    }
+
+    /** 새 요청을 막고, 대기열에 남은 요청을 모두 저장한 뒤 종료 */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void drainLoop() {
+        List<IngestTicket> batch = new ArrayList<>(batchSize);
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                expireTicketsIfDue();
+                IngestTicket first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("비동기 등록 처리 중 오류 발생: {}", e.getMessage());
+                batch.forEach(ticket -> ticket.fail(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 배치 전체를 하나의 트랜잭션으로 저장하고, 실패 시 건별 트랜잭션으로 재시도 */
+    private void writeBatch(List<IngestTicket> batch) {
+        try {
+            List<Notice> saved = transactionTemplate.execute(status -> persist(batch));
+            Map<Long, String> memberNames = memberNameResolver.resolveAll(
+                    saved.stream().map(Notice::getMemberNo).collect(Collectors.toSet()));
+            for (int i = 0; i < batch.size(); i++) {
+                Notice notice = saved.get(i);
+                batch.get(i).complete(NoticeResponse.from(notice, memberNames.get(notice.getMemberNo())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("그룹 커밋 실패, 건별 커밋으로 재시도합니다: {}", e.getMessage());
+            for (IngestTicket ticket : batch) {
+                try {
+                    Notice notice = transactionTemplate.execute(status -> persist(List.of(ticket))).get(0);
+                    ticket.complete(NoticeResponse.from(notice, memberNameResolver.resolve(notice.getMemberNo())));
+                } catch (RuntimeException single) {
+                    ticket.fail(single);
+                }
+            }
+        }
+    }
+
+    private List<Notice> persist(List<IngestTicket> batch) {
+        List<Notice> notices = batch.stream()
+                .map(ticket -> Notice.builder()
+                        .memberNo(ticket.getMemberNo())
+                        .noticeTitle(ticket.getRequest().getNoticeTitle())
+                        .noticeContent(ticket.getRequest().getNoticeContent())
+                        .isFixed(ticket.getRequest().getIsFixed())
+                        .publishAt(ticket.getRequest().getPublishAt())
+                        .expireAt(ticket.getRequest().getExpireAt())
+                        .build())
+                .toList();
+
+        List<Notice> saved = noticeRepository.saveAll(notices);
+        // 커밋 이후 캐시, 자동완성 인덱스, 노출 전환 예약(NoticeVisibilityEngine.track) 갱신
+        saved.forEach(notice -> eventPublisher.publishEvent(NoticeChangedEvent.created(notice)));
+        return saved;
+    }
+
+    private void expireTicketsIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastExpiryMillis < EXPIRY_INTERVAL_MILLIS) {
+            return;
+        }
+        lastExpiryMillis = now;
+
+        long expiredBefore = now - ticketTtlMillis;
+        tickets.values().removeIf(ticket ->
+                ticket.getCompletedAtMillis() != 0 && ticket.getCompletedAtMillis() < expiredBefore);
+    }
+}
@@ -0,0 +1,34 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 메시지 전달 경로
+ * <p>
+ * 설정 {@code notice.invalidation.bus}로 구현을 선택합니다.
+ * </p>
+ * <ul>
+ * <li>{@code loopback} (기본값): 같은 JVM 안에서만 전달 ({@link LoopbackInvalidationBus}) - 단일 인스턴스 또는 테스트용</li>
+ * <li>{@code outbox}: 변경과 같은 트랜잭션에서 공유 테이블에 기록하고 각 노드가 주기적으로 조회 ({@link OutboxInvalidationBus})</li>
+ * </ul>
+ * <p>
+ * 어느 구현이든 커밋된 변경의 메시지만 전달하며, 같은 메시지가 두 번 이상 전달될 수 있으므로
+ * 구독자는 버전으로 중복/역순 메시지를 걸러야 합니다.
+ * </p>
+ */
+public interface InvalidationBus {
+
+    /**
+     * 메시지 발행 - 변경을 일으킨 트랜잭션 안에서 호출하며, 트랜잭션이 롤백되면 전달되지 않음
+     *
+     * @param invalidation 무효화 메시지
+     */
+    void publish(NoticeInvalidation invalidation);
+
+    /**
+     * 메시지 구독 (발행한 노드 자신에게도 전달됨)
+     *
+     * @param subscriber 메시지를 받을 구독자
+     */
+    void subscribe(Consumer<NoticeInvalidation> subscriber);
+}
@@ -0,0 +1,55 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 메시지 아웃박스(transactional outbox) 엔티티 클래스
+ * <p>
+ * - 공지사항 변경과 같은 트랜잭션에서 INSERT 되므로 커밋된 변경만 다른 노드에 전달
+ * - 각 노드가 기록 시각 기준으로 주기적으로 조회하며, 보관 기간이 지난 행은 주기적으로 삭제
+ * </p>
+ */
+@Entity
+@Table(name = "notice_invalidation_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InvalidationOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long noticeNo;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    /** 메시지를 발행한 노드 ID */
+    @Column(length = 64, nullable = false)
+    private String origin;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static InvalidationOutboxEntry from(NoticeInvalidation invalidation, LocalDateTime createdAt) {
+        InvalidationOutboxEntry entry = new InvalidationOutboxEntry();
+        entry.noticeNo = invalidation.noticeNo();
+        entry.version = invalidation.version();
+        entry.deleted = invalidation.deleted();
+        entry.origin = invalidation.origin();
+        entry.createdAt = createdAt;
+        return entry;
+    }
+
+    public NoticeInvalidation toInvalidation() {
+        return new NoticeInvalidation(noticeNo, version, deleted, origin);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시 무효화 아웃박스에 대한 데이터 액세스를 담당하는 리포지토리입니다.
+ */
+public interface InvalidationOutboxRepository extends JpaRepository<InvalidationOutboxEntry, Long> {
+
+    /** 기준 시각 이후 기록된 메시지를 번호 순으로 조회 (afterId 이후부터 limit건) */
+    @Query("SELECT e FROM InvalidationOutboxEntry e WHERE e.createdAt >= :since AND e.id > :afterId ORDER BY e.id")
+    List<InvalidationOutboxEntry> findSince(LocalDateTime since, long afterId, Limit limit);
+
+    /**
+     * 보관 기간이 지난 메시지 삭제
+     * @return 삭제된 행의 수
+     */
+    @Modifying
+    @Query("DELETE FROM InvalidationOutboxEntry e WHERE e.createdAt < :cutoff")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,56 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게만 메시지를 전달하는 무효화 경로
+ * <p>
+ * 트랜잭션 안에서 발행하면 커밋 이후에 전달하여, 외부 전달 구현과 같이 커밋된 변경만 구독자에게 보이도록 합니다.
+ * 한 JVM에서 여러 노드를 흉내 내는 테스트에서는 하나의 인스턴스를 여러 구독자가 공유합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.invalidation.bus", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationBus implements InvalidationBus {
+
+    private final List<Consumer<NoticeInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NoticeInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(invalidation);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<NoticeInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /** 모든 구독자에게 전달 (한 구독자의 실패가 다른 구독자에게 영향을 주지 않음) */
+    void deliver(NoticeInvalidation invalidation) {
+        for (Consumer<NoticeInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 메시지 처리 실패: noticeNo={}", invalidation.noticeNo(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+/**
+ * 노드 간에 전달하는 공지사항 캐시 무효화 메시지
+ * <p>
+ * 변경된 내용은 담지 않으며, 받은 노드가 DB에서 최신 상태를 다시 읽어 반영합니다.
+ * 같은 공지사항에 대해 이미 반영한 버전 이하의 메시지는 늦게 도착한 것으로 보고 버립니다.
+ * </p>
+ *
+ * @param noticeNo 변경된 공지사항 번호
+ * @param version  변경 후 엔티티 버전 (삭제 시 사용하지 않음)
+ * @param deleted  삭제(또는 보관 테이블로 이동) 여부 - 삭제 메시지는 이후의 수정 메시지를 모두 무시하게 하는 툼스톤
+ * @param origin   메시지를 발행한 노드 ID
+ */
+public record NoticeInvalidation(
+        Long noticeNo,
+        long version,
+        boolean deleted,
+        String origin
+) {
+    public static NoticeInvalidation changed(Long noticeNo, long version, String origin) {
+        return new NoticeInvalidation(noticeNo, version, false, origin);
+    }
+
+    public static NoticeInvalidation deleted(Long noticeNo, String origin) {
+        return new NoticeInvalidation(noticeNo, 0, true, origin);
+    }
+}
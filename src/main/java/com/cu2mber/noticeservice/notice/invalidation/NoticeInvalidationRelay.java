@@ -0,0 +1,139 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 공지사항 변경을 다른 노드에 알리고, 다른 노드의 변경을 이 노드의 캐시에 반영하는 중계기
+ * <p>
+ * 발행: 변경 이벤트({@link NoticeChangedEvent})를 커밋 직전에 {@link InvalidationBus}로 발행합니다.
+ * 수정 메시지에는 변경 후 엔티티 버전을 담습니다.
+ * </p>
+ * <p>
+ * 수신: 다른 노드의 메시지를 받으면 공지사항을 DB에서 다시 읽어 변경 이벤트로 다시 발행하므로,
+ * 상세 캐시, 자동완성 인덱스, 마지막 정상 응답, 노출 전환 예약 등 기존 구독자가 로컬 변경과 같은 방식으로 갱신됩니다.
+ * 공지사항별로 반영한 버전을 기억하여 이미 반영한 버전 이하의 메시지(중복 전달, 늦게 도착한 메시지)는 버리고,
+ * 삭제 메시지는 툼스톤으로 남겨 이후에 도착한 수정 메시지를 무시합니다.
+ * 이 노드가 발행한 메시지는 커밋 이후 리스너가 이미 반영했으므로 버전만 기록합니다.
+ * </p>
+ * <p>
+ * 기억하는 공지사항 수는 {@code notice.invalidation.max-tracked}개로 제한되며, 넘으면 가장 오래된 항목부터 잊습니다
+ * (잊은 공지사항의 늦은 메시지는 DB를 한 번 더 읽을 뿐 결과는 같음).
+ * </p>
+ */
+@Component
+public class NoticeInvalidationRelay {
+
+    /** 삭제된 공지사항의 반영 버전 (모든 수정 메시지보다 큼) */
+    static final long TOMBSTONE = Long.MAX_VALUE;
+
+    private final InvalidationBus bus;
+    private final NoticeRepository noticeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final Map<Long, Long> appliedVersions;
+
+    @Autowired
+    public NoticeInvalidationRelay(InvalidationBus bus,
+                                   NoticeRepository noticeRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${notice.invalidation.max-tracked:100000}") int maxTracked) {
+        this(bus, noticeRepository, transactionTemplate, eventPublisher, maxTracked, UUID.randomUUID().toString());
+    }
+
+    NoticeInvalidationRelay(InvalidationBus bus, NoticeRepository noticeRepository,
+                            TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                            int maxTracked, String nodeId) {
+        this.bus = bus;
+        this.noticeRepository = noticeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId;
+        this.appliedVersions = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxTracked;
+            }
+        };
+    }
+
+    @PostConstruct
+    void subscribe() {
+        bus.subscribe(this::onInvalidation);
+    }
+
+    /** 변경을 일으킨 트랜잭션의 커밋 직전에 무효화 메시지 발행 (outbox이면 같은 트랜잭션에 기록) */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.replicated()) {
+            return;
+        }
+        if (event.type() == NoticeChangedEvent.ChangeType.DELETED) {
+            bus.publish(NoticeInvalidation.deleted(event.noticeNo(), nodeId));
+            return;
+        }
+        if (event.type() == NoticeChangedEvent.ChangeType.UPDATED) {
+            // 변경 후 버전을 읽기 위해 커밋 시 실행될 UPDATE를 지금 실행 (실행되는 SQL은 같음)
+            noticeRepository.flush();
+        }
+        bus.publish(NoticeInvalidation.changed(event.noticeNo(), versionOf(event.notice()), nodeId));
+    }
+
+    /** 무효화 메시지 수신 */
+    void onInvalidation(NoticeInvalidation invalidation) {
+        if (!isNewer(invalidation)) {
+            return;
+        }
+        if (nodeId.equals(invalidation.origin())) {
+            markApplied(invalidation.noticeNo(), invalidation.deleted() ? TOMBSTONE : invalidation.version());
+            return;
+        }
+
+        Notice notice = transactionTemplate.execute(status -> {
+            Notice found = invalidation.deleted()
+                    ? null
+                    : noticeRepository.findById(invalidation.noticeNo()).orElse(null);
+            eventPublisher.publishEvent(NoticeChangedEvent.replicated(invalidation.noticeNo(), found));
+            return found;
+        });
+
+        if (invalidation.deleted() || notice == null) {
+            markApplied(invalidation.noticeNo(), TOMBSTONE);
+        } else {
+            // 메시지보다 새 버전을 읽었으면 그 버전까지의 메시지는 다시 반영할 필요 없음
+            markApplied(invalidation.noticeNo(), Math.max(invalidation.version(), versionOf(notice)));
+        }
+    }
+
+    /** 아직 반영하지 않은 메시지인지 여부 (삭제 메시지는 보관 테이블로 옮긴 뒤 삭제하는 경우가 있어 항상 반영) */
+    private synchronized boolean isNewer(NoticeInvalidation invalidation) {
+        if (invalidation.deleted()) {
+            return true;
+        }
+        Long applied = appliedVersions.get(invalidation.noticeNo());
+        return applied == null || invalidation.version() > applied;
+    }
+
+    private synchronized void markApplied(Long noticeNo, long version) {
+        appliedVersions.merge(noticeNo, version, Math::max);
+    }
+
+    private static long versionOf(Notice notice) {
+        return notice.getVersion() != null ? notice.getVersion() : 0;
+    }
+}
@@ -0,0 +1,149 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 공유 DB의 아웃박스 테이블(notice_invalidation_outbox)을 통해 모든 노드에 메시지를 전달하는 무효화 경로
+ * <p>
+ * 발행 시 변경과 같은 트랜잭션에서 행을 INSERT 하고, 커밋 이후 발행한 노드의 구독자에게는 바로 전달합니다.
+ * 각 노드는 {@code poll-interval}마다 새로 기록된 행을 읽어 구독자에게 전달하므로,
+ * 다른 노드의 변경은 최대 약 {@code poll-interval} 안에 반영됩니다.
+ * </p>
+ * <ul>
+ * <li>번호(IDENTITY)는 커밋 순서와 다를 수 있으므로 마지막 번호가 아닌 기록 시각 기준으로
+ *     직전 조회 시각보다 {@code lookback} 앞선 행부터 다시 읽고, 이미 전달한 행은 건너뜀
+ *     ({@code lookback}은 가장 긴 쓰기 트랜잭션 시간과 노드 간 시계 오차보다 커야 함)</li>
+ * <li>조회는 전용 스레드({@code notice-invalidation-poller})에서 실행하여, 공용 스케줄러에서 오래 걸리는 작업
+ *     (보관 작업 등)이 실행 중이어도 반영이 늦어지지 않음</li>
+ * <li>DB 오류로 조회에 실패하면 조회 기준 시각을 유지하여 다음 조회에서 이어서 읽음</li>
+ * <li>{@code retention}이 지난 행은 {@code purge-interval}마다 삭제 (여러 노드가 함께 실행해도 무방)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.invalidation.bus", havingValue = "outbox")
+public class OutboxInvalidationBus implements InvalidationBus {
+
+    private final InvalidationOutboxRepository outboxRepository;
+    private final LoopbackInvalidationBus local = new LoopbackInvalidationBus();
+    private final Duration pollInterval;
+    private final Duration lookback;
+    private final Duration retention;
+    private final int batchSize;
+    private final Clock clock;
+
+    /** 조회 범위 안에서 이미 전달한 행 (번호 → 기록 시각) */
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private LocalDateTime lastPolledAt;
+    private ScheduledExecutorService poller;
+
+    @Autowired
+    public OutboxInvalidationBus(InvalidationOutboxRepository outboxRepository,
+                                 @Value("${notice.invalidation.outbox.poll-interval:1s}") Duration pollInterval,
+                                 @Value("${notice.invalidation.outbox.lookback:10s}") Duration lookback,
+                                 @Value("${notice.invalidation.outbox.retention:1h}") Duration retention,
+                                 @Value("${notice.invalidation.outbox.batch-size:500}") int batchSize) {
+        this(outboxRepository, pollInterval, lookback, retention, batchSize, Clock.systemDefaultZone());
+    }
+
+    OutboxInvalidationBus(InvalidationOutboxRepository outboxRepository, Duration pollInterval, Duration lookback,
+                          Duration retention, int batchSize, Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.pollInterval = pollInterval;
+        this.lookback = lookback;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        // 기동 전의 메시지는 읽지 않음 (캐시가 비어 있는 상태로 시작)
+        this.lastPolledAt = LocalDateTime.now(clock);
+    }
+
+    @PostConstruct
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notice-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollSafely,
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    public void publish(NoticeInvalidation invalidation) {
+        outboxRepository.save(InvalidationOutboxEntry.from(invalidation, LocalDateTime.now(clock)));
+        local.publish(invalidation);
+    }
+
+    @Override
+    public void subscribe(Consumer<NoticeInvalidation> subscriber) {
+        local.subscribe(subscriber);
+    }
+
+    /** 새로 기록된 메시지를 읽어 구독자에게 전달 */
+    public synchronized void poll() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime since = lastPolledAt.minus(lookback);
+
+        long afterId = 0;
+        List<InvalidationOutboxEntry> entries;
+        do {
+            entries = outboxRepository.findSince(since, afterId, Limit.of(batchSize));
+            for (InvalidationOutboxEntry entry : entries) {
+                if (delivered.putIfAbsent(entry.getId(), entry.getCreatedAt()) == null) {
+                    local.deliver(entry.toInvalidation());
+                }
+                afterId = entry.getId();
+            }
+        } while (entries.size() == batchSize);
+
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(since));
+        lastPolledAt = now;
+    }
+
+    /** 실패해도 다음 주기에 다시 조회하도록 예외를 기록만 함 (예외가 전파되면 이후 실행이 취소됨) */
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 아웃박스 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 보관 기간이 지난 메시지 삭제 */
+    @Scheduled(fixedDelayString = "${notice.invalidation.outbox.purge-interval:10m}")
+    @Transactional
+    public void purge() {
+        int purged = outboxRepository.deleteCreatedBefore(LocalDateTime.now(clock).minus(retention));
+        if (purged > 0) {
+            log.debug("캐시 무효화 아웃박스 정리: {}건 삭제", purged);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.cu2mber.noticeservice.notice.render;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 공지사항의 렌더링된 본문(HTML, 요약문)을 일괄 생성하는 작업
+ * <p>
+ * 렌더링 컬럼이 추가되기 전에 저장된 행(또는 {@code notice.render.rebuild.all=true}이면 전체 행)을
+ * 번호 순으로 {@code chunk-size}건씩 읽어 청크마다 하나의 트랜잭션으로 갱신합니다.
+ * 값이 달라진 행에 대해서만 UPDATE가 발생하고 변경 이벤트가 발행되어 캐시가 비워집니다.
+ * </p>
+ * <p>
+ * 설정 {@code notice.render.rebuild.enabled=true}일 때 기동 시 한 번 실행되며, 일회성 작업으로만 실행하려면
+ * {@code --spring.main.web-application-type=none}과 함께 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(1)
+@ConditionalOnProperty(name = "notice.render.rebuild.enabled", havingValue = "true")
+public class NoticeContentRebuildJob implements ApplicationRunner {
+
+    private final NoticeRepository noticeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean all;
+    private final int chunkSize;
+
+    public NoticeContentRebuildJob(NoticeRepository noticeRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${notice.render.rebuild.all:false}") boolean all,
+                                   @Value("${notice.render.rebuild.chunk-size:500}") int chunkSize) {
+        this.noticeRepository = noticeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.all = all;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastNo = 0;
+        int scanned = 0;
+        int updated = 0;
+
+        while (true) {
+            long afterNo = lastNo;
+            ChunkResult result = transactionTemplate.execute(status -> rebuildChunk(afterNo));
+            if (result == null || result.scanned() == 0) {
+                break;
+            }
+            scanned += result.scanned();
+            updated += result.updated();
+            lastNo = result.lastNo();
+        }
+
+        log.info("공지사항 본문 렌더링 재생성 완료: {}건 확인, {}건 갱신", scanned, updated);
+    }
+
+    private ChunkResult rebuildChunk(long afterNo) {
+        List<Notice> notices = noticeRepository.findRenderTargets(afterNo, all, Limit.of(chunkSize));
+        int updated = 0;
+        for (Notice notice : notices) {
+            if (notice.rerender()) {
+                eventPublisher.publishEvent(NoticeChangedEvent.updated(notice));
+                updated++;
+            }
+        }
+        long lastNo = notices.isEmpty() ? afterNo : notices.get(notices.size() - 1).getNoticeNo();
+        return new ChunkResult(notices.size(), updated, lastNo);
+    }
+
+    private record ChunkResult(int scanned, int updated, long lastNo) {
+    }
+}
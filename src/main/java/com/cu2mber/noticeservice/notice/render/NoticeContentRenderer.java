@@ -0,0 +1,215 @@
+package com.cu2mber.noticeservice.notice.render;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 공지사항 본문(마크다운 형식 일부)을 HTML과 요약문으로 변환하는 렌더러
+ * <p>
+ * 원문의 HTML 특수문자를 먼저 모두 이스케이프한 뒤 아래 서식만 태그로 변환하므로,
+ * 결과 HTML에는 렌더러가 만든 태그 외의 마크업이 포함되지 않습니다(별도 sanitize 불필요).
+ * </p>
+ * <ul>
+ * <li>블록: 제목({@code #} ~ {@code ######}), 목록({@code -}, {@code *}, {@code 1.}), 인용({@code >}),
+ * 코드 블록({@code ```}), 빈 줄로 구분된 문단(문단 안의 줄바꿈은 {@code <br>})</li>
+ * <li>인라인: {@code **굵게**}, {@code *기울임*}, {@code `코드`}, {@code [텍스트](링크)}
+ * (링크는 http, https, mailto, 사이트 내부 경로만 허용)</li>
+ * </ul>
+ * <p>작성/수정 시 한 번만 호출되고 결과는 엔티티에 저장되어, 조회 시에는 렌더링 비용이 들지 않습니다.</p>
+ */
+public final class NoticeContentRenderer {
+
+    /** 요약문 최대 길이 (코드 포인트 기준, 말줄임표 제외) */
+    public static final int MAX_EXCERPT_LENGTH = 200;
+
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.*)$");
+    private static final Pattern UNORDERED_ITEM = Pattern.compile("^[-*+]\\s+(.*)$");
+    private static final Pattern ORDERED_ITEM = Pattern.compile("^\\d{1,9}[.)]\\s+(.*)$");
+    private static final Pattern QUOTE = Pattern.compile("^&gt;\\s?(.*)$");
+    private static final Pattern CODE_SPAN = Pattern.compile("`([^`]+)`");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]+)]\\(([^)\\s]+)\\)");
+    private static final Pattern BOLD = Pattern.compile("\\*\\*(\\S(?:.*?\\S)?)\\*\\*");
+    private static final Pattern ITALIC = Pattern.compile("(?<![*\\w])\\*(\\S(?:.*?\\S)?)\\*(?![*\\w])");
+
+    private static final Pattern EXCERPT_LINE_MARKER = Pattern.compile("(?m)^\\s*(?:#{1,6}\\s+|[-*+]\\s+|\\d{1,9}[.)]\\s+|>\\s?|```.*$)");
+    private static final Pattern EXCERPT_LINK = Pattern.compile("\\[([^\\]]+)]\\([^)\\s]+\\)");
+    private static final Pattern EXCERPT_EMPHASIS = Pattern.compile("\\*{1,2}|`");
+
+    private enum Block {
+        NONE("", ""),
+        PARAGRAPH("<p>", "</p>"),
+        UNORDERED_LIST("<ul>", "</ul>"),
+        ORDERED_LIST("<ol>", "</ol>"),
+        QUOTE("<blockquote><p>", "</p></blockquote>"),
+        CODE("<pre><code>", "</code></pre>");
+
+        private final String open;
+        private final String close;
+
+        Block(String open, String close) {
+            this.open = open;
+            this.close = close;
+        }
+    }
+
+    private NoticeContentRenderer() {
+    }
+
+    /**
+     * 본문을 HTML과 요약문으로 변환
+     *
+     * @param content 원문 (null이면 빈 결과)
+     * @return 렌더링 결과
+     */
+    public static RenderedContent render(String content) {
+        if (content == null || content.isBlank()) {
+            return new RenderedContent("", "");
+        }
+        return new RenderedContent(toHtml(content), toExcerpt(content));
+    }
+
+    static String toHtml(String content) {
+        String[] lines = content.replace("\r\n", "\n").replace('\r', '\n').split("\n", -1);
+        StringBuilder html = new StringBuilder(content.length() + content.length() / 4);
+        Block block = Block.NONE;
+        boolean firstLine = true;
+
+        for (String line : lines) {
+            if (block == Block.CODE) {
+                if (line.strip().startsWith("```")) {
+                    block = close(html, block);
+                } else {
+                    html.append(firstLine ? "" : "\n").append(escape(line));
+                    firstLine = false;
+                }
+                continue;
+            }
+
+            String text = escape(line.strip());
+            Matcher matcher;
+            if (text.isEmpty()) {
+                block = close(html, block);
+            } else if (text.startsWith("```")) {
+                close(html, block);
+                block = open(html, Block.CODE);
+                firstLine = true;
+            } else if ((matcher = HEADING.matcher(text)).matches()) {
+                block = close(html, block);
+                int level = matcher.group(1).length();
+                html.append("<h").append(level).append('>')
+                        .append(inline(matcher.group(2)))
+                        .append("</h").append(level).append('>');
+            } else if ((matcher = UNORDERED_ITEM.matcher(text)).matches()) {
+                block = switchTo(html, block, Block.UNORDERED_LIST);
+                html.append("<li>").append(inline(matcher.group(1))).append("</li>");
+            } else if ((matcher = ORDERED_ITEM.matcher(text)).matches()) {
+                block = switchTo(html, block, Block.ORDERED_LIST);
+                html.append("<li>").append(inline(matcher.group(1))).append("</li>");
+            } else if ((matcher = QUOTE.matcher(text)).matches()) {
+                firstLine = block != Block.QUOTE;
+                block = switchTo(html, block, Block.QUOTE);
+                html.append(firstLine ? "" : "<br>").append(inline(matcher.group(1)));
+            } else {
+                firstLine = block != Block.PARAGRAPH;
+                block = switchTo(html, block, Block.PARAGRAPH);
+                html.append(firstLine ? "" : "<br>").append(inline(text));
+            }
+        }
+        close(html, block);
+        return html.toString();
+    }
+
+    static String toExcerpt(String content) {
+        String plain = EXCERPT_LINE_MARKER.matcher(content).replaceAll("");
+        plain = EXCERPT_LINK.matcher(plain).replaceAll("$1");
+        plain = EXCERPT_EMPHASIS.matcher(plain).replaceAll("");
+        plain = plain.replaceAll("\\s+", " ").strip();
+
+        if (plain.codePointCount(0, plain.length()) <= MAX_EXCERPT_LENGTH) {
+            return plain;
+        }
+        return plain.substring(0, plain.offsetByCodePoints(0, MAX_EXCERPT_LENGTH)).stripTrailing() + "…";
+    }
+
+    private static Block switchTo(StringBuilder html, Block current, Block next) {
+        if (current == next) {
+            return current;
+        }
+        close(html, current);
+        return open(html, next);
+    }
+
+    private static Block open(StringBuilder html, Block block) {
+        html.append(block.open);
+        return block;
+    }
+
+    private static Block close(StringBuilder html, Block block) {
+        html.append(block.close);
+        return Block.NONE;
+    }
+
+    /** 이스케이프된 한 줄에 인라인 서식 적용 (코드 안은 서식을 적용하지 않음) */
+    private static String inline(String escaped) {
+        StringBuilder result = new StringBuilder(escaped.length() + 16);
+        Matcher code = CODE_SPAN.matcher(escaped);
+        int last = 0;
+        while (code.find()) {
+            result.append(emphasis(links(escaped.substring(last, code.start()))))
+                    .append("<code>").append(code.group(1)).append("</code>");
+            last = code.end();
+        }
+        result.append(emphasis(links(escaped.substring(last))));
+        return result.toString();
+    }
+
+    private static String links(String escaped) {
+        Matcher matcher = LINK.matcher(escaped);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String text = matcher.group(1);
+            String url = matcher.group(2);
+            String replacement = isAllowedUrl(url)
+                    ? "<a href=\"" + url + "\" rel=\"nofollow noopener\">" + text + "</a>"
+                    : text;
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static String emphasis(String escaped) {
+        String bold = BOLD.matcher(escaped).replaceAll("<strong>$1</strong>");
+        return ITALIC.matcher(bold).replaceAll("<em>$1</em>");
+    }
+
+    private static boolean isAllowedUrl(String url) {
+        String lower = url.toLowerCase(Locale.ROOT);
+        return lower.startsWith("https://") || lower.startsWith("http://") || lower.startsWith("mailto:")
+                || (url.startsWith("/") && !url.startsWith("//"));
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            String replacement = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            if (replacement != null) {
+                escaped.append(replacement);
+            } else if (escaped != null) {
+                escaped.append(text.charAt(i));
+            }
+        }
+        return escaped != null ? escaped.toString() : text;
+    }
+}
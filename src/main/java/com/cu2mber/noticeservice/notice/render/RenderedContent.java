@@ -0,0 +1,10 @@
+package com.cu2mber.noticeservice.notice.render;
+
+/**
+ * 공지사항 본문 렌더링 결과
+ *
+ * @param html    이스케이프 처리된 HTML (허용된 태그만 포함)
+ * @param excerpt 서식을 제거한 요약문 (최대 {@code NoticeContentRenderer.MAX_EXCERPT_LENGTH}자)
+ */
+public record RenderedContent(String html, String excerpt) {
+}
@@ -1,25 +1,108 @@
 package com.cu2mber.noticeservice.notice.repository;
 
 import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.search.NoticeTitleEntry;
+import com.cu2mber.noticeservice.notice.visibility.NoticeSchedule;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 공지사항 엔티티에 대한 데이터 액세스를 담당하는 리포지토리입니다.
  */
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
-    /** 제목 검색 + 페이징 (고정글 우선 정렬 유지) */
-    @Query("SELECT n FROM Notice n WHERE n.noticeTitle LIKE %:keyword%")
+    /** 제목 검색 + 페이징 (고정글 우선 정렬 유지, 노출 중인 공지사항만) */
+    @Query("SELECT n FROM Notice n WHERE n.visible = true AND n.noticeTitle LIKE %:keyword%")
     Page<Notice> findByNoticeTitleContaining(String keyword, Pageable pageable);
 
     /**
-     * 상단 고정된 공지사항을 먼저 가져오고, 그 안에서 최신순 정렬
+     * 상단 고정된 공지사항을 먼저 가져오고, 그 안에서 최신순 정렬 (노출 중인 공지사항만)
      * @return
      */
-    @Query("SELECT n FROM Notice n ORDER BY n.isFixed DESC, n.createdAt DESC")
+    @Query("SELECT n FROM Notice n WHERE n.visible = true ORDER BY n.isFixed DESC, n.createdAt DESC")
     Page<Notice> findAllNoticesWithPaging(Pageable pageable);
+
+    /** 노출 중인 상단 고정 공지사항 번호 조회 (최신순) */
+    @Query("SELECT n.noticeNo FROM Notice n WHERE n.isFixed = true AND n.visible = true ORDER BY n.createdAt DESC")
+    List<Long> findPinnedNoticeNos(Limit limit);
+
+    /** 여러 공지사항을 번호로 한 번에 조회 (WHERE noticeNo IN (...)) */
+    List<Notice> findAllByNoticeNoIn(Collection<Long> noticeNos);
+
+    /** 자동완성 인덱스 구성을 위한 요약 정보 전체 조회 (본문 제외, 노출 중인 공지사항만) */
+    @Query("SELECT new com.cu2mber.noticeservice.notice.search.NoticeTitleEntry(n.noticeNo, n.noticeTitle, n.isFixed, n.createdAt) FROM Notice n WHERE n.visible = true")
+    List<NoticeTitleEntry> findAllTitleEntries();
+
+    /**
+     * 노출 여부 전환을 추적해야 하는 공지사항의 게시 기간 조회
+     * <p>앞으로 게시 시작/종료 시각이 남은 행과, 서비스가 멈춰 있던 동안 전환 시각이 지나 저장된 노출 여부가 맞지 않는 행을 조회합니다.</p>
+     *
+     * @param now 기준 시각
+     */
+    @Query("SELECT new com.cu2mber.noticeservice.notice.visibility.NoticeSchedule(n.noticeNo, n.publishAt, n.expireAt, n.visible)"
+            + " FROM Notice n"
+            + " WHERE n.publishAt > :now OR n.expireAt > :now"
+            + " OR (n.visible = true AND n.expireAt <= :now)"
+            + " OR (n.visible = false AND (n.publishAt IS NULL OR n.publishAt <= :now) AND (n.expireAt IS NULL OR n.expireAt > :now))")
+    List<NoticeSchedule> findVisibilitySchedules(LocalDateTime now);
+
+    /**
+     * 본문 렌더링 재생성 대상 조회 (번호 순 키셋 페이징)
+     *
+     * @param afterNo 이전 청크의 마지막 번호 (이 번호보다 큰 행만 조회)
+     * @param all     true면 모든 행, false면 렌더링 결과가 없는 행만 조회
+     * @param limit   청크 크기
+     */
+    @Query("SELECT n FROM Notice n WHERE n.noticeNo > :afterNo"
+            + " AND (:all = true OR n.noticeContentHtml IS NULL OR n.noticeExcerpt IS NULL)"
+            + " ORDER BY n.noticeNo")
+    List<Notice> findRenderTargets(Long afterNo, boolean all, Limit limit);
+
+    /**
+     * 보관 테이블로 옮길 공지사항 조회 (번호 순, 행 잠금)
+     * <p>상단 고정되지 않았고 작성일이 기준 시각 이전인 공지사항 중, 게시가 시작된 뒤 앞으로 노출 여부 전환이 남아 있지 않은 행이 대상입니다.
+     * 게시 기간이 끝난 공지사항도 포함하며, 아직 게시 전이거나 게시 종료가 남은 행은 전환이 끝날 때까지 운영 테이블에 남깁니다.</p>
+     * <p>
+     * {@code SELECT ... FOR UPDATE SKIP LOCKED}로 읽어, 트랜잭션이 끝날 때까지 다른 수정이 끼어들지 못하게 하고
+     * 다른 노드가 이미 잠근 행은 건너뜁니다. (lock timeout -2 = SKIP LOCKED)
+     * </p>
+     *
+     * @param cutoff 작성일 기준 시각
+     * @param now    게시 기간 기준 시각
+     * @param limit  청크 크기
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM Notice n WHERE n.isFixed = false AND n.createdAt < :cutoff"
+            + " AND (n.publishAt IS NULL OR n.publishAt <= :now)"
+            + " AND (n.expireAt IS NULL OR n.expireAt <= :now)"
+            + " ORDER BY n.noticeNo")
+    List<Notice> findArchiveCandidates(LocalDateTime cutoff, LocalDateTime now, Limit limit);
+
+    /** 여러 공지사항을 번호로 한 번에 삭제 (보관 테이블로 옮긴 뒤 운영 테이블에서 제거) */
+    @Modifying
+    @Query("DELETE FROM Notice n WHERE n.noticeNo IN :noticeNos")
+    int deleteAllByNoticeNoIn(Collection<Long> noticeNos);
+
+    /**
+     * 공지사항 단건 삭제
+     * <p>존재 여부 확인과 삭제를 하나의 DELETE 문으로 처리합니다. (existsById + deleteById 조합은 3개의 쿼리를 발생시킵니다.)</p>
+     * @return 삭제된 행의 수 (0이면 존재하지 않는 공지사항)
+     */
+    @Modifying
+    @Query("DELETE FROM Notice n WHERE n.noticeNo = :noticeNo")
+    int deleteByNoticeNo(Long noticeNo);
 }
@@ -0,0 +1,30 @@
+package com.cu2mber.noticeservice.notice.search;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제목 자동완성 인덱스에 보관하는 공지사항 요약 정보
+ * <p>본문(@Lob)을 제외하고 순위 계산에 필요한 필드만 담습니다.</p>
+ *
+ * @param noticeNo    공지사항 번호
+ * @param noticeTitle 공지사항 제목
+ * @param isFixed     상단 고정 여부
+ * @param createdAt   작성일
+ */
+public record NoticeTitleEntry(
+        Long noticeNo,
+        String noticeTitle,
+        boolean isFixed,
+        LocalDateTime createdAt
+) {
+    public static NoticeTitleEntry from(Notice notice) {
+        return new NoticeTitleEntry(
+                notice.getNoticeNo(),
+                notice.getNoticeTitle(),
+                notice.isFixed(),
+                notice.getCreatedAt()
+        );
+    }
+}
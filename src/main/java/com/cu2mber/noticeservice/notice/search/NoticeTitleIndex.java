@@ -0,0 +1,335 @@
+package com.cu2mber.noticeservice.notice.search;
+
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공지사항 제목 자동완성을 위한 메모리 내 접두어 트라이(Trie)
+ * <p>
+ * 제목을 {@link HangulJamo#normalize(String)}로 자모 단위 키로 변환한 뒤,
+ * 제목 전체와 각 단어의 시작 위치부터의 접미어를 트라이에 등록합니다.
+ * 항목은 키가 끝나는 노드에만 보관하고, 하위 트리의 항목이 {@value #TOP_K}개를 넘는 노드만
+ * 순위(고정글 우선, 최신순) 상위 {@value #TOP_K}개를 따로 보관합니다.
+ * 그 이하인 노드는 하위 트리를 직접 모아도 {@value #TOP_K}개 남짓이므로,
+ * 조회는 접두어 길이 + K 만큼의 시간에 DB 조회 없이 끝나고 제목 하나가 차지하는 항목 수는 단어 수에 비례합니다.
+ * </p>
+ * <p>
+ * 메모리 사용량을 제한하기 위해 {@value #MAX_DEPTH} 자모까지만 트라이를 구성하며,
+ * 그보다 긴 입력은 해당 깊이의 노드에서 후보를 가져와 원문 키와 다시 비교합니다.
+ * 공지사항이 등록/수정/삭제되면 트랜잭션 커밋 이후 해당 항목만 갱신됩니다.
+ * </p>
+ */
+@Component
+public class NoticeTitleIndex {
+
+    static final int MAX_DEPTH = 24;
+
+    /** 한 번에 반환할 수 있는 최대 개수 (노드별 상위 항목 보관 개수) */
+    static final int TOP_K = 20;
+
+    private static final Comparator<IndexedTitle> RANKING = Comparator
+            .comparing((IndexedTitle indexed) -> indexed.entry().isFixed(), Comparator.reverseOrder())
+            .thenComparing(indexed -> indexed.entry().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(indexed -> indexed.entry().noticeNo(), Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedTitle> byNoticeNo = new HashMap<>();
+    private Node root = new Node();
+
+    /**
+     * 입력한 접두어로 시작하는 제목(또는 제목 안의 단어)을 순위 순으로 조회
+     *
+     * @param query 사용자 입력
+     * @param limit 최대 반환 개수 (최대 {@value #TOP_K})
+     * @return 순위 순으로 정렬된 항목 목록
+     */
+    public List<NoticeTitleEntry> suggest(String query, int limit) {
+        String key = HangulJamo.normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = Math.min(key.length(), MAX_DEPTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            boolean needsVerify = key.length() > MAX_DEPTH;
+            // 트라이 깊이보다 긴 입력은 가장 깊은 노드의 모든 항목을 원문과 다시 비교
+            Collection<IndexedTitle> candidates = needsVerify || node.top == null ? collect(node) : node.top;
+            int max = Math.min(limit, TOP_K);
+            List<NoticeTitleEntry> result = new ArrayList<>(Math.min(max, candidates.size()));
+            for (IndexedTitle indexed : candidates) {
+                if (needsVerify && !indexed.matches(key)) {
+                    continue;
+                }
+                result.add(indexed.entry());
+                if (result.size() == max) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 전체 항목으로 인덱스를 새로 구성 */
+    public void rebuild(Collection<NoticeTitleEntry> entries) {
+        Node newRoot = new Node();
+        Map<Long, IndexedTitle> newById = new HashMap<>();
+        for (NoticeTitleEntry entry : entries) {
+            IndexedTitle indexed = IndexedTitle.of(entry);
+            insert(newRoot, indexed);
+            newById.put(entry.noticeNo(), indexed);
+        }
+
+        lock.writeLock().lock();
+        try {
+            root = newRoot;
+            byNoticeNo.clear();
+            byNoticeNo.putAll(newById);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 항목 추가 또는 교체 */
+    public void upsert(NoticeTitleEntry entry) {
+        IndexedTitle indexed = IndexedTitle.of(entry);
+
+        lock.writeLock().lock();
+        try {
+            IndexedTitle previous = byNoticeNo.put(entry.noticeNo(), indexed);
+            if (previous != null) {
+                delete(root, previous);
+            }
+            insert(root, indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 항목 제거 */
+    public void remove(Long noticeNo) {
+        lock.writeLock().lock();
+        try {
+            IndexedTitle previous = byNoticeNo.remove(noticeNo);
+            if (previous != null) {
+                delete(root, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 공지사항이 변경되면 커밋 이후 인덱스에 반영 */
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.type() == NoticeChangedEvent.ChangeType.DELETED || !event.notice().isVisible()) {
+            remove(event.noticeNo());
+        } else {
+            upsert(NoticeTitleEntry.from(event.notice()));
+        }
+    }
+
+    /** 보관 중인 항목 참조 수 (키가 끝나는 노드의 항목 + 노드별 상위 항목) */
+    int retainedEntries() {
+        lock.readLock().lock();
+        try {
+            return retainedEntries(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int retainedEntries(Node node) {
+        int retained = (node.terminals != null ? node.terminals.size() : 0) + (node.top != null ? node.top.size() : 0);
+        for (Node child : node.children.values()) {
+            retained += retainedEntries(child);
+        }
+        return retained;
+    }
+
+    private static void insert(Node root, IndexedTitle indexed) {
+        for (String key : indexed.keys()) {
+            insert(root, indexed, key, 0);
+        }
+    }
+
+    /** 키가 끝나는 노드에 항목을 추가하고, 돌아오면서 경로의 개수와 상위 항목을 갱신 */
+    private static void insert(Node node, IndexedTitle indexed, String key, int depth) {
+        if (depth == key.length()) {
+            if (node.terminals == null) {
+                node.terminals = new ArrayList<>(1);
+            }
+            node.terminals.add(indexed);
+        } else {
+            insert(node.children.computeIfAbsent(key.charAt(depth), c -> new Node()), indexed, key, depth + 1);
+        }
+
+        node.count++;
+        if (node.count <= TOP_K) {
+            return;
+        }
+        if (node.top == null) {
+            node.top = rank(node);
+        } else if (!node.top.contains(indexed)) {
+            int position = 0;
+            while (position < node.top.size() && RANKING.compare(node.top.get(position), indexed) < 0) {
+                position++;
+            }
+            if (position < TOP_K) {
+                node.top.add(position, indexed);
+                if (node.top.size() > TOP_K) {
+                    node.top.remove(TOP_K);
+                }
+            }
+        }
+    }
+
+    private static void delete(Node root, IndexedTitle indexed) {
+        for (String key : indexed.keys()) {
+            delete(root, indexed, key, 0);
+        }
+    }
+
+    /**
+     * 키가 끝나는 노드에서 항목을 제거하고, 돌아오면서 경로의 개수와 상위 항목을 갱신
+     *
+     * @return 제거했는지 여부
+     */
+    private static boolean delete(Node node, IndexedTitle indexed, String key, int depth) {
+        if (depth == key.length()) {
+            if (node.terminals == null || !node.terminals.remove(indexed)) {
+                return false;
+            }
+            if (node.terminals.isEmpty()) {
+                node.terminals = null;
+            }
+        } else {
+            Node child = node.children.get(key.charAt(depth));
+            if (child == null || !delete(child, indexed, key, depth + 1)) {
+                return false;
+            }
+            if (child.count == 0) {
+                // 하위 트리의 모든 항목이 사라졌으므로 가지 전체를 제거
+                node.children.remove(key.charAt(depth));
+            }
+        }
+
+        node.count--;
+        if (node.count <= TOP_K) {
+            node.top = null;
+        } else if (node.top.contains(indexed)) {
+            node.top = rank(node);
+        }
+        return true;
+    }
+
+    /** 노드의 항목과 자식 노드의 상위 항목을 모아 상위 TOP_K개를 다시 계산 */
+    private static List<IndexedTitle> rank(Node node) {
+        TreeSet<IndexedTitle> ranked = new TreeSet<>(RANKING);
+        if (node.terminals != null) {
+            ranked.addAll(node.terminals);
+        }
+        for (Node child : node.children.values()) {
+            ranked.addAll(child.top != null ? child.top : collect(child));
+        }
+        List<IndexedTitle> top = new ArrayList<>(TOP_K + 1);
+        for (IndexedTitle indexed : ranked) {
+            if (top.size() == TOP_K) {
+                break;
+            }
+            top.add(indexed);
+        }
+        return top;
+    }
+
+    /** 하위 트리의 모든 항목을 순위 순으로 수집 (상위 항목을 보관하지 않는 작은 하위 트리에만 사용) */
+    private static TreeSet<IndexedTitle> collect(Node node) {
+        TreeSet<IndexedTitle> collected = new TreeSet<>(RANKING);
+        collect(node, collected);
+        return collected;
+    }
+
+    private static void collect(Node node, TreeSet<IndexedTitle> sink) {
+        if (node.terminals != null) {
+            sink.addAll(node.terminals);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, sink);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        /** 이 노드에서 끝나는 키의 항목 (없으면 null) */
+        private List<IndexedTitle> terminals;
+        /** 하위 트리에 등록된 키의 수 */
+        private int count;
+        /** 하위 트리의 상위 TOP_K개 (순위 순, 키가 TOP_K개 이하이면 null) */
+        private List<IndexedTitle> top;
+    }
+
+    /**
+     * 정규화된 제목과 트라이 등록 키를 함께 보관하는 항목
+     *
+     * @param entry      원본 항목
+     * @param normalized 정규화된 제목 전체
+     * @param keys       트라이에 등록할 키 (제목 시작 및 각 단어 시작 위치부터, 최대 MAX_DEPTH 자모, 중복 제거)
+     */
+    private record IndexedTitle(NoticeTitleEntry entry, String normalized, List<String> keys) {
+
+        static IndexedTitle of(NoticeTitleEntry entry) {
+            String normalized = HangulJamo.normalize(entry.noticeTitle());
+            Set<String> keys = new LinkedHashSet<>();
+            for (int start : wordStarts(normalized)) {
+                keys.add(normalized.substring(start, Math.min(start + MAX_DEPTH, normalized.length())));
+            }
+            return new IndexedTitle(entry, normalized, List.copyOf(keys));
+        }
+
+        /** MAX_DEPTH 자모보다 긴 입력에 대한 원문 비교 */
+        boolean matches(String key) {
+            for (int start : wordStarts(normalized)) {
+                if (normalized.startsWith(key, start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** 제목 시작 위치와, 글자/숫자가 아닌 문자 뒤에 오는 글자/숫자의 위치 */
+        private static List<Integer> wordStarts(String normalized) {
+            List<Integer> starts = new ArrayList<>();
+            for (int i = 0; i < normalized.length(); i++) {
+                boolean wordChar = Character.isLetterOrDigit(normalized.charAt(i));
+                boolean afterBoundary = i > 0 && !Character.isLetterOrDigit(normalized.charAt(i - 1));
+                if (i == 0 || (wordChar && afterBoundary)) {
+                    starts.add(i);
+                }
+            }
+            return starts;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.cu2mber.noticeservice.notice.search;
+
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 기동 시 제목 자동완성 인덱스를 DB로부터 구성하는 초기화 컴포넌트
+ * <p>본문을 제외한 요약 정보만 한 번의 쿼리로 읽어 {@link NoticeTitleIndex}를 채웁니다.</p>
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class NoticeTitleIndexLoader implements ApplicationRunner {
+
+    private final NoticeRepository noticeRepository;
+    private final NoticeTitleIndex noticeTitleIndex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<NoticeTitleEntry> entries = noticeRepository.findAllTitleEntries();
+        noticeTitleIndex.rebuild(entries);
+        log.info("제목 자동완성 인덱스 구성 완료: {}건", entries.size());
+    }
+}
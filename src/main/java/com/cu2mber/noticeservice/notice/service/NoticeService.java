@@ -1,7 +1,9 @@
 package com.cu2mber.noticeservice.notice.service;
 
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
 import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
 import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeSuggestion;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -19,10 +21,22 @@ public interface NoticeService {
     /** 특정 공지사항 삭제 */
     void deleteNotice(Long noticeNo, String role);
 
-    /** 공지사항 조회 */
+    /** 보관된 공지사항 삭제 */
+    void deleteArchivedNotice(Long noticeNo, String role);
+
+    /** 공지사항 조회 (운영 테이블에 없으면 보관 테이블 조회) */
     NoticeResponse getNotice(Long noticeNo);
 
+    /** 여러 공지사항을 번호로 한 번에 조회 */
+    NoticeBulkResponse getNoticesByIds(List<Long> noticeNos);
+
     /** 전체 공지사항 목록 조회 (고정글 우선 정렬) */
     Page<NoticeResponse> getAllNotices(int page, int size, String keyword);
 
+    /** 보관된 공지사항 목록 조회 (최신순) */
+    Page<NoticeResponse> getArchivedNotices(int page, int size, String keyword);
+
+    /** 공지사항 제목 자동완성 (고정글 우선, 최신순) */
+    List<NoticeSuggestion> suggestTitles(String query, int limit);
+
 }
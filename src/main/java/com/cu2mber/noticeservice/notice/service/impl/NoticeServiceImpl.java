@@ -1,13 +1,25 @@
 package com.cu2mber.noticeservice.notice.service.impl;
 
 import com.cu2mber.noticeservice.common.exception.custom.AdminForbiddenException;
+import com.cu2mber.noticeservice.common.exception.custom.BulkRequestLimitExceededException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidNoticeScheduleException;
 import com.cu2mber.noticeservice.common.exception.custom.NoticeNotFoundException;
+import com.cu2mber.noticeservice.member.MemberNameResolver;
+import com.cu2mber.noticeservice.notice.archive.ArchivedNotice;
+import com.cu2mber.noticeservice.notice.archive.ArchivedNoticeRepository;
+import com.cu2mber.noticeservice.notice.cache.CachedNotice;
+import com.cu2mber.noticeservice.notice.cache.NoticeCache;
 import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
 import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
 import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeSuggestion;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
 import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import com.cu2mber.noticeservice.notice.search.NoticeTitleIndex;
 import com.cu2mber.noticeservice.notice.service.NoticeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +27,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * 공지사항 관리를 위한 서비스 구현체
  * <p>
@@ -26,7 +46,21 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class NoticeServiceImpl implements NoticeService {
 
+    /** 다건 조회 시 한 번에 요청할 수 있는 최대 번호 개수 */
+    static final int MAX_BULK_IDS = 1000;
+
+    /** IN 절 하나에 담을 최대 번호 개수 (초과 시 여러 쿼리로 분할) */
+    static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    /** 자동완성 결과 최대 개수 */
+    static final int MAX_SUGGESTIONS = 20;
+
     private final NoticeRepository noticeRepository;
+    private final ArchivedNoticeRepository archivedNoticeRepository;
+    private final NoticeCache noticeCache;
+    private final NoticeTitleIndex noticeTitleIndex;
+    private final MemberNameResolver memberNameResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 공지사항을 등록
@@ -36,6 +70,7 @@ public class NoticeServiceImpl implements NoticeService {
      * @param memberNo 작성자 식별 번호
      * @return 등록된 공지사항 상세 정보
      * @throws AdminForbiddenException 관리자 권한이 없는 경우 발생
+     * @throws InvalidNoticeScheduleException 게시 종료 시각이 게시 시작 시각 이후가 아닌 경우 발생
      */
     @Override
     @Transactional
@@ -43,17 +78,21 @@ public class NoticeServiceImpl implements NoticeService {
         if (!"ROLE_ADMIN".equals(role)) {
             throw new AdminForbiddenException();
         }
+        validateSchedule(request.getPublishAt(), request.getExpireAt());
 
         Notice notice = Notice.builder()
                 .memberNo(memberNo)
                 .noticeTitle(request.getNoticeTitle())
                 .noticeContent(request.getNoticeContent())
                 .isFixed(request.getIsFixed())
+                .publishAt(request.getPublishAt())
+                .expireAt(request.getExpireAt())
                 .build();
 
         Notice savedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(NoticeChangedEvent.created(savedNotice));
 
-        return NoticeResponse.from(savedNotice);
+        return NoticeResponse.from(savedNotice, memberNameResolver.resolve(savedNotice.getMemberNo()));
     }
 
     /**
@@ -65,6 +104,7 @@ public class NoticeServiceImpl implements NoticeService {
      * @return 수정된 공지사항 상세 정보
      * @throws AdminForbiddenException 관리자 권한이 없는 경우 발생
      * @throws NoticeNotFoundException 해당 번호의 공지사항이 존재하지 않는 경우 발생
+     * @throws InvalidNoticeScheduleException 변경 후 게시 종료 시각이 게시 시작 시각 이후가 아닌 경우 발생
      */
     @Override
     @Transactional
@@ -76,13 +116,20 @@ public class NoticeServiceImpl implements NoticeService {
         Notice notice = noticeRepository.findById(noticeNo)
                 .orElseThrow(() -> new NoticeNotFoundException());
 
+        validateSchedule(
+                request.getPublishAt() != null ? request.getPublishAt() : notice.getPublishAt(),
+                request.getExpireAt() != null ? request.getExpireAt() : notice.getExpireAt()
+        );
+
         notice.update(
                 request.getNoticeTitle(),
                 request.getNoticeContent(),
                 request.getIsFixed()
         );
+        notice.reschedule(request.getPublishAt(), request.getExpireAt());
+        eventPublisher.publishEvent(NoticeChangedEvent.updated(notice));
 
-        return NoticeResponse.from(notice);
+        return NoticeResponse.from(notice, memberNameResolver.resolve(notice.getMemberNo()));
     }
 
     /**
@@ -100,33 +147,131 @@ public class NoticeServiceImpl implements NoticeService {
             throw new AdminForbiddenException();
         }
 
-        if (!noticeRepository.existsById(noticeNo)) {
+        // 존재 확인과 삭제를 DELETE 한 번으로 처리 (삭제된 행이 없으면 존재하지 않는 공지사항)
+        if (noticeRepository.deleteByNoticeNo(noticeNo) == 0) {
             throw new NoticeNotFoundException();
         }
+        eventPublisher.publishEvent(NoticeChangedEvent.deleted(noticeNo));
+    }
+
+    /**
+     * 보관된 공지사항 삭제
+     *
+     * @param noticeNo 삭제할 공지사항 번호
+     * @param role     요청자의 권한 (ROLE_ADMIN 필요)
+     * @throws AdminForbiddenException 관리자 권한이 없는 경우 발생
+     * @throws NoticeNotFoundException 해당 번호의 보관된 공지사항이 존재하지 않는 경우 발생
+     */
+    @Override
+    @Transactional
+    public void deleteArchivedNotice(Long noticeNo, String role) {
+        if (!"ROLE_ADMIN".equals(role)) {
+            throw new AdminForbiddenException();
+        }
 
-        noticeRepository.deleteById(noticeNo);
+        if (archivedNoticeRepository.deleteByNoticeNo(noticeNo) == 0) {
+            throw new NoticeNotFoundException();
+        }
+        eventPublisher.publishEvent(NoticeChangedEvent.deleted(noticeNo));
     }
 
     /**
      * 단일 공지사항 상세 정보를 조회
+     * <p>운영 테이블에 없으면 보관 테이블을 조회하므로, 보관된 공지사항도 같은 번호로 조회됩니다.</p>
      *
      * @param noticeNo 조회할 공지사항 번호
      * @return 공지사항 상세 정보
-     * @throws NoticeNotFoundException 해당 번호의 공지사항이 존재하지 않는 경우 발생
+     * @throws NoticeNotFoundException 해당 번호의 공지사항이 존재하지 않거나 게시 기간이 아닌 경우 발생
      */
     @Override
     @Transactional(readOnly = true)
     public NoticeResponse getNotice(Long noticeNo) {
+        CachedNotice cached = noticeCache.get(noticeNo).orElseGet(() -> {
+            // 읽는 도중 변경이 커밋되어 제거되면 읽어 둔 값은 저장하지 않음
+            long token = noticeCache.token();
+            CachedNotice loaded = noticeRepository.findById(noticeNo)
+                    .map(notice -> {
+                        if (!notice.isVisible()) {
+                            throw new NoticeNotFoundException();
+                        }
+                        return CachedNotice.from(notice);
+                    })
+                    .orElseGet(() -> archivedNoticeRepository.findById(noticeNo)
+                            .filter(archived -> archived.isVisibleAt(LocalDateTime.now()))
+                            .map(CachedNotice::from)
+                            .orElseThrow(() -> new NoticeNotFoundException()));
 
-        Notice notice = noticeRepository.findById(noticeNo)
-                .orElseThrow(() -> new NoticeNotFoundException());
+            noticeCache.put(loaded, token);
+            return loaded;
+        });
+        // 작성자 이름은 캐시하지 않고 매번 조회 (MemberNameResolver의 만료/장애 처리 규칙을 따름)
+        return cached.withMemberName(memberNameResolver.resolve(cached.memberNo()));
+    }
+
+    /**
+     * 여러 공지사항을 번호로 한 번에 조회
+     * <p>
+     * 캐시에 있는 항목을 먼저 사용하고, 나머지만 {@code IN} 쿼리로 조회합니다.
+     * 번호가 많으면 {@value #IN_CLAUSE_CHUNK_SIZE}개 단위로 나누어 조회하며,
+     * 결과는 요청한 번호 순서(중복 제거)를 유지합니다. 게시 기간이 아닌 공지사항은 존재하지 않는 번호로 반환합니다.
+     * </p>
+     *
+     * @param noticeNos 조회할 공지사항 번호 목록
+     * @return 조회된 공지사항 목록과 존재하지 않는 번호 목록
+     * @throws BulkRequestLimitExceededException 요청한 번호가 {@value #MAX_BULK_IDS}개를 초과하는 경우 발생
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NoticeBulkResponse getNoticesByIds(List<Long> noticeNos) {
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(noticeNos));
+        if (requested.size() > MAX_BULK_IDS) {
+            throw new BulkRequestLimitExceededException();
+        }
+
+        long token = noticeCache.token();
+        Map<Long, CachedNotice> found = new HashMap<>(noticeCache.getAll(requested));
+
+        List<Long> misses = requested.stream()
+                .filter(noticeNo -> !found.containsKey(noticeNo))
+                .toList();
 
-        return NoticeResponse.from(notice);
+        List<Notice> loaded = new ArrayList<>(misses.size());
+        for (int from = 0; from < misses.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, misses.size()));
+            noticeRepository.findAllByNoticeNoIn(chunk).stream()
+                    .filter(Notice::isVisible)
+                    .forEach(loaded::add);
+        }
+
+        for (Notice notice : loaded) {
+            CachedNotice cached = CachedNotice.from(notice);
+            noticeCache.put(cached, token);
+            found.put(notice.getNoticeNo(), cached);
+        }
+
+        // 캐시 적중분과 DB 조회분의 작성자를 모아 한 번에 조회
+        Map<Long, String> memberNames = memberNameResolver.resolveAll(found.values().stream()
+                .map(CachedNotice::memberNo)
+                .collect(Collectors.toSet()));
+
+        List<NoticeResponse> notices = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long noticeNo : requested) {
+            CachedNotice cached = found.get(noticeNo);
+            if (cached != null) {
+                notices.add(cached.withMemberName(memberNames.get(cached.memberNo())));
+            } else {
+                missingIds.add(noticeNo);
+            }
+        }
+
+        return new NoticeBulkResponse(notices, missingIds);
     }
 
     /**
      * 공지사항 목록을 페이징하여 조회
-     * <p>키워드가 제공될 경우 제목 검색을 수행하며, 고정글이 우선적으로 정렬됩니다.</p>
+     * <p>키워드가 제공될 경우 제목 검색을 수행하며, 고정글이 우선적으로 정렬됩니다.
+     * 게시 기간 안의 공지사항({@code visible = true})만 조회하며, 보관된 공지사항은 포함하지 않습니다.</p>
      *
      * @param page    페이지 번호 (0부터 시작)
      * @param size    한 페이지당 노출할 개수
@@ -151,7 +296,65 @@ public class NoticeServiceImpl implements NoticeService {
             noticePage = noticeRepository.findAllNoticesWithPaging(pageable);
         }
 
-        return noticePage.map(NoticeResponse::from);
+        // 페이지의 작성자 번호를 모아 한 번에 조회 (행마다 조회하면 N+1 호출)
+        Map<Long, String> memberNames = resolveMemberNames(noticePage.getContent());
+        return noticePage.map(notice -> NoticeResponse.from(notice, memberNames.get(notice.getMemberNo())));
+    }
+
+    /**
+     * 보관된 공지사항 목록을 페이징하여 조회
+     * <p>보관 테이블만 조회하며 최신순으로 정렬됩니다. (보관 대상은 고정되지 않은 공지사항뿐이므로 고정글 정렬 없음)</p>
+     *
+     * @param page    페이지 번호 (0부터 시작)
+     * @param size    한 페이지당 노출할 개수
+     * @param keyword 검색어 (선택 사항)
+     * @return 페이징 처리된 보관 공지사항 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NoticeResponse> getArchivedNotices(int page, int size, String keyword) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
+
+        Page<ArchivedNotice> archivedPage;
+        if (keyword != null && !keyword.isBlank()) {
+            archivedPage = archivedNoticeRepository.findByNoticeTitleContaining(keyword, pageable);
+        } else {
+            archivedPage = archivedNoticeRepository.findAllArchivedWithPaging(pageable);
+        }
+
+        Map<Long, String> memberNames = memberNameResolver.resolveAll(archivedPage.getContent().stream()
+                .map(ArchivedNotice::getMemberNo)
+                .collect(Collectors.toSet()));
+        return archivedPage.map(notice -> NoticeResponse.from(notice, memberNames.get(notice.getMemberNo())));
+    }
+
+    /**
+     * 공지사항 제목 자동완성
+     * <p>메모리 내 제목 인덱스에서 조회하므로 DB에 접근하지 않습니다.</p>
+     *
+     * @param query 사용자가 입력 중인 검색어 (한글 자모 단위 접두어 일치)
+     * @param limit 최대 반환 개수 (1 ~ {@value #MAX_SUGGESTIONS})
+     * @return 고정글 우선, 최신순으로 정렬된 제목 목록
+     */
+    @Override
+    public List<NoticeSuggestion> suggestTitles(String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+        return noticeTitleIndex.suggest(query, boundedLimit).stream()
+                .map(NoticeSuggestion::from)
+                .toList();
+    }
+
+    private static void validateSchedule(LocalDateTime publishAt, LocalDateTime expireAt) {
+        if (publishAt != null && expireAt != null && !expireAt.isAfter(publishAt)) {
+            throw new InvalidNoticeScheduleException();
+        }
+    }
+
+    private Map<Long, String> resolveMemberNames(List<Notice> notices) {
+        return memberNameResolver.resolveAll(notices.stream()
+                .map(Notice::getMemberNo)
+                .collect(Collectors.toSet()));
     }
 
 }
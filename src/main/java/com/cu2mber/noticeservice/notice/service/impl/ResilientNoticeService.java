@@ -0,0 +1,259 @@
+package com.cu2mber.noticeservice.notice.service.impl;
+
+import com.cu2mber.noticeservice.common.exception.custom.NoticeUnavailableException;
+import com.cu2mber.noticeservice.common.resilience.CallNotPermittedException;
+import com.cu2mber.noticeservice.common.resilience.CircuitBreaker;
+import com.cu2mber.noticeservice.common.resilience.LastKnownGoodStore;
+import com.cu2mber.noticeservice.common.resilience.StaleResponses;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeSuggestion;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.service.NoticeService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * DB 장애 시에도 읽기 요청을 제한된 시간 안에 응답하기 위한 공지사항 서비스 데코레이터
+ * <p>
+ * 상세/목록 조회를 서킷 브레이커를 거쳐 {@link NoticeServiceImpl}에 위임하고, 성공한 응답을 마지막 정상 응답(LKG)으로 보관합니다.
+ * DB 오류({@link DataAccessException}, {@link TransactionException})가 발생하거나 서킷이 열려 있으면
+ * 보관된 응답을 {@code Warning}/{@code Age} 헤더와 함께 제공하고, 같은 키에 대해 한 번만 백그라운드 갱신을 시도합니다.
+ * 보관된 응답이 없으면 {@link NoticeUnavailableException}(503)으로 응답합니다.
+ * </p>
+ * <p>
+ * 목록 응답은 페이지 전체를 담으므로 상세 응답과 따로 더 작은 개수({@code notice.resilience.max-stale-pages})만 보관하며,
+ * 키가 클라이언트 입력에 따라 무한히 늘어나지 않도록 검색어가 없는 목록만 보관합니다 (검색은 장애 시 503).
+ * </p>
+ * <p>
+ * 서킷이 열려 있는 동안에는 DB를 호출하지 않으므로, 응답 지연은 쿼리 타임아웃
+ * ({@code jakarta.persistence.query.timeout})과 커넥션 획득 타임아웃 안으로 제한됩니다.
+ * 등록/수정/삭제는 오래된 데이터로 대신할 수 없으므로 그대로 위임합니다.
+ * </p>
+ */
+@Slf4j
+@Primary
+@Service
+public class ResilientNoticeService implements NoticeService {
+
+    private final NoticeServiceImpl delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final LastKnownGoodStore<Long, NoticeResponse> noticeStore;
+    private final LastKnownGoodStore<ListKey, Page<NoticeResponse>> pageStore;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Map<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResilientNoticeService(NoticeServiceImpl delegate,
+                                  @Value("${notice.resilience.failure-threshold:5}") int failureThreshold,
+                                  @Value("${notice.resilience.open-duration:10s}") Duration openDuration,
+                                  @Value("${notice.resilience.max-stale-entries:10000}") int maxStaleEntries,
+                                  @Value("${notice.resilience.max-stale-pages:100}") int maxStalePages) {
+        this(delegate, failureThreshold, openDuration, maxStaleEntries, maxStalePages,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "notice-stale-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                Clock.systemUTC());
+    }
+
+    ResilientNoticeService(NoticeServiceImpl delegate, int failureThreshold, Duration openDuration,
+                           int maxStaleEntries, int maxStalePages, Executor refreshExecutor, Clock clock) {
+        this.delegate = delegate;
+        this.circuitBreaker = new CircuitBreaker("notice-db", failureThreshold, openDuration,
+                ResilientNoticeService::isDatabaseFailure, clock);
+        this.noticeStore = new LastKnownGoodStore<>(maxStaleEntries);
+        this.pageStore = new LastKnownGoodStore<>(maxStalePages);
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public NoticeResponse createNotice(NoticeRequest request, String role, Long memberNo) {
+        return delegate.createNotice(request, role, memberNo);
+    }
+
+    @Override
+    public NoticeResponse updateNotice(Long noticeNo, NoticeRequest request, String role) {
+        return delegate.updateNotice(noticeNo, request, role);
+    }
+
+    @Override
+    public void deleteNotice(Long noticeNo, String role) {
+        delegate.deleteNotice(noticeNo, role);
+    }
+
+    @Override
+    public void deleteArchivedNotice(Long noticeNo, String role) {
+        delegate.deleteArchivedNotice(noticeNo, role);
+    }
+
+    /** 공지사항 조회 (DB 장애 시 마지막 정상 응답 제공) */
+    @Override
+    public NoticeResponse getNotice(Long noticeNo) {
+        return readWithFallback(noticeNo, noticeStore, true, () -> delegate.getNotice(noticeNo));
+    }
+
+    /**
+     * 여러 공지사항을 번호로 한 번에 조회
+     * <p>DB 장애 시 상세 조회로 보관된 응답이 있는 번호만 제공하고, 나머지 번호는 {@code missingIds}로 반환합니다.
+     * 보관된 응답이 하나도 없으면 503으로 응답합니다.</p>
+     */
+    @Override
+    public NoticeBulkResponse getNoticesByIds(List<Long> noticeNos) {
+        try {
+            return circuitBreaker.execute(() -> delegate.getNoticesByIds(noticeNos));
+        } catch (RuntimeException e) {
+            if (!(e instanceof CallNotPermittedException) && !isDatabaseFailure(e)) {
+                throw e;
+            }
+            return staleBulkResponse(noticeNos, e);
+        }
+    }
+
+    /** 전체 공지사항 목록 조회 (DB 장애 시 검색어가 없는 목록만 마지막 정상 응답 제공) */
+    @Override
+    public Page<NoticeResponse> getAllNotices(int page, int size, String keyword) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        return readWithFallback(new ListKey(page, size, false), pageStore, !hasKeyword,
+                () -> delegate.getAllNotices(page, size, keyword));
+    }
+
+    /** 보관된 공지사항 목록 조회 (DB 장애 시 검색어가 없는 목록만 마지막 정상 응답 제공) */
+    @Override
+    public Page<NoticeResponse> getArchivedNotices(int page, int size, String keyword) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        return readWithFallback(new ListKey(page, size, true), pageStore, !hasKeyword,
+                () -> delegate.getArchivedNotices(page, size, keyword));
+    }
+
+    @Override
+    public List<NoticeSuggestion> suggestTitles(String query, int limit) {
+        return delegate.suggestTitles(query, limit);
+    }
+
+    /** 삭제되었거나 게시 기간이 끝난 공지사항은 장애 중에도 다시 노출되지 않도록 보관된 응답에서 제거 */
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.type() == NoticeChangedEvent.ChangeType.DELETED || !event.notice().isVisible()) {
+            noticeStore.evict(event.noticeNo());
+            pageStore.evictIf(page -> page.getContent().stream()
+                    .anyMatch(notice -> notice.noticeNo().equals(event.noticeNo())));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 조회하고, 실패하면 보관된 응답 제공
+     *
+     * @param retain false면 응답을 보관하지 않고 장애 시 바로 503 (보관 대상이 아닌 조회)
+     */
+    private <K, V> V readWithFallback(K key, LastKnownGoodStore<K, V> store, boolean retain, Supplier<V> loader) {
+        try {
+            V value = circuitBreaker.execute(loader);
+            if (retain) {
+                store.put(key, value, clock.millis());
+            }
+            return value;
+        } catch (RuntimeException e) {
+            if (!(e instanceof CallNotPermittedException) && !isDatabaseFailure(e)) {
+                // 존재하지 않는 공지사항 등 DB가 정상 응답한 오류는 보관된 응답도 더 이상 유효하지 않음
+                if (retain) {
+                    store.evict(key);
+                }
+                throw e;
+            }
+
+            Optional<LastKnownGoodStore.Stored<V>> stored = retain ? store.get(key) : Optional.empty();
+            if (stored.isEmpty()) {
+                log.warn("공지사항 조회 실패, 제공할 이전 응답 없음 [{}]: {}", key, e.getMessage());
+                throw new NoticeUnavailableException();
+            }
+
+            scheduleRefresh(key, store, loader);
+            StaleResponses.mark(Duration.ofMillis(clock.millis() - stored.get().storedAtMillis()).toSeconds());
+            return stored.get().value();
+        }
+    }
+
+    private NoticeBulkResponse staleBulkResponse(List<Long> noticeNos, RuntimeException cause) {
+        List<NoticeResponse> notices = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        long oldestStoredAt = Long.MAX_VALUE;
+        for (Long noticeNo : new LinkedHashSet<>(noticeNos)) {
+            Optional<LastKnownGoodStore.Stored<NoticeResponse>> stored = noticeStore.get(noticeNo);
+            if (stored.isPresent()) {
+                notices.add(stored.get().value());
+                oldestStoredAt = Math.min(oldestStoredAt, stored.get().storedAtMillis());
+            } else {
+                missingIds.add(noticeNo);
+            }
+        }
+
+        if (notices.isEmpty()) {
+            log.warn("공지사항 다건 조회 실패, 제공할 이전 응답 없음 ({}건): {}", missingIds.size(), cause.getMessage());
+            throw new NoticeUnavailableException();
+        }
+        StaleResponses.mark(Duration.ofMillis(clock.millis() - oldestStoredAt).toSeconds());
+        return new NoticeBulkResponse(notices, missingIds);
+    }
+
+    /** 같은 키에 대해 진행 중인 갱신이 없을 때만 백그라운드 갱신 1건을 예약 */
+    private <K, V> void scheduleRefresh(K key, LastKnownGoodStore<K, V> store, Supplier<V> loader) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    store.put(key, circuitBreaker.execute(loader), clock.millis());
+                } catch (RuntimeException e) {
+                    log.debug("백그라운드 갱신 실패 [{}]: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static boolean isDatabaseFailure(Throwable e) {
+        return e instanceof DataAccessException || e instanceof TransactionException;
+    }
+
+    /** 검색어가 없는 목록 조회 조건 (보관된 응답의 키) */
+    private record ListKey(int page, int size, boolean archived) {
+    }
+}
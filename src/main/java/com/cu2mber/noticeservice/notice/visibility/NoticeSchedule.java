@@ -0,0 +1,25 @@
+package com.cu2mber.noticeservice.notice.visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노출 여부 전환 대상 공지사항의 게시 기간 정보
+ * <p>기동 시 타이머 휠을 다시 구성할 때 본문 없이 필요한 컬럼만 조회합니다.</p>
+ *
+ * @param noticeNo  공지사항 번호
+ * @param publishAt 게시 시작 시각
+ * @param expireAt  게시 종료 시각
+ * @param visible   저장된 노출 여부
+ */
+public record NoticeSchedule(
+        Long noticeNo,
+        LocalDateTime publishAt,
+        LocalDateTime expireAt,
+        boolean visible
+) {
+    /** 주어진 시각에 게시 기간 안인지 여부 */
+    public boolean isVisibleAt(LocalDateTime now) {
+        return (publishAt == null || !publishAt.isAfter(now))
+                && (expireAt == null || expireAt.isAfter(now));
+    }
+}
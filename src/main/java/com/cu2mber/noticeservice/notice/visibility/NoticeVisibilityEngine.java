@@ -0,0 +1,234 @@
+package com.cu2mber.noticeservice.notice.visibility;
+
+import com.cu2mber.noticeservice.common.timer.HashedTimerWheel;
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시 기간(publishAt ~ expireAt)에 따라 공지사항 노출 여부를 전환하는 엔진
+ * <p>
+ * 공지사항마다 다음 전환 시각(게시 시작 또는 종료) 하나만 {@link HashedTimerWheel}에 예약하고,
+ * 그 시각이 되면 해당 행의 {@code visible} 값을 갱신한 뒤 변경 이벤트를 발행합니다.
+ * 캐시와 자동완성 인덱스는 이 이벤트로 전환 시점에만 갱신되므로, 목록 쿼리는 {@code visible = true} 조건만으로
+ * 시각 비교 없이 유지됩니다.
+ * </p>
+ * <ul>
+ * <li>등록/수정 이벤트를 커밋 이후 구독하여 다음 전환 시각을 다시 예약</li>
+ * <li>기동 시 전환이 남은 행을 조회하여 휠을 구성하고, 서비스가 멈춰 있던 동안 지난 전환을 바로 반영</li>
+ * <li>전환 정밀도는 {@code notice.visibility.tick} 단위이며, 반영에 실패하면 {@link #RETRY_DELAY} 후 다시 시도</li>
+ * <li>여러 노드가 같은 행을 동시에 전환하면 한 노드만 커밋되고 나머지는 버전 충돌이 나므로,
+ *     충돌은 이미 반영된 것으로 보고 행을 다시 읽어 다음 예약만 갱신 (경고/재시도 없음)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Order(-1)
+public class NoticeVisibilityEngine implements ApplicationRunner {
+
+    /** 전환 반영 실패 시 재시도 간격 */
+    static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final NoticeRepository noticeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration tick;
+    private final Clock clock;
+    private final HashedTimerWheel<Transition> wheel;
+    /** 공지사항별로 현재 유효한 예약 시각 (이전 예약은 만료되어도 무시) */
+    private final Map<Long, Long> scheduled = new HashMap<>();
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public NoticeVisibilityEngine(NoticeRepository noticeRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${notice.visibility.tick:1s}") Duration tick,
+                                  @Value("${notice.visibility.wheel-size:512}") int wheelSize) {
+        this(noticeRepository, transactionTemplate, eventPublisher, tick, wheelSize, Clock.systemDefaultZone());
+    }
+
+    NoticeVisibilityEngine(NoticeRepository noticeRepository, TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher, Duration tick, int wheelSize, Clock clock) {
+        this.noticeRepository = noticeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tick = tick;
+        this.clock = clock;
+        this.wheel = new HashedTimerWheel<>(tick, wheelSize, clock.millis());
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notice-visibility");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /** 기동 시 전환이 남은 공지사항으로 휠을 구성 (자동완성 인덱스 적재보다 먼저 실행) */
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<NoticeSchedule> schedules = noticeRepository.findVisibilitySchedules(now);
+
+        int corrected = 0;
+        for (NoticeSchedule schedule : schedules) {
+            if (schedule.isVisibleAt(now) != schedule.visible()) {
+                applyOrReread(schedule.noticeNo());
+                corrected++;
+            } else {
+                track(schedule.noticeNo(), schedule.publishAt(), schedule.expireAt());
+            }
+        }
+        log.info("공지사항 게시 기간 예약 구성 완료: {}건 예약, {}건 노출 여부 보정", pending(), corrected);
+    }
+
+    /**
+     * 공지사항의 다음 전환 시각을 예약 (전환할 시각이 남아 있지 않으면 예약 해제)
+     *
+     * @param noticeNo  공지사항 번호
+     * @param publishAt 게시 시작 시각
+     * @param expireAt  게시 종료 시각
+     */
+    public void track(Long noticeNo, LocalDateTime publishAt, LocalDateTime expireAt) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime next = nextTransition(now, publishAt, expireAt);
+
+        synchronized (this) {
+            if (next == null) {
+                scheduled.remove(noticeNo);
+                return;
+            }
+            long deadline = next.atZone(clock.getZone()).toInstant().toEpochMilli();
+            Long previous = scheduled.put(noticeNo, deadline);
+            if (previous == null || previous != deadline) {
+                wheel.schedule(new Transition(noticeNo, deadline), deadline);
+            }
+        }
+    }
+
+    /** 예약 해제 (휠에 남은 이전 예약은 만료 시 무시) */
+    public synchronized void untrack(Long noticeNo) {
+        scheduled.remove(noticeNo);
+    }
+
+    /** 현재 예약된 공지사항 수 */
+    public synchronized int pending() {
+        return scheduled.size();
+    }
+
+    /** 등록/수정/삭제가 커밋되면 예약을 갱신 */
+    @TransactionalEventListener
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (event.type() == NoticeChangedEvent.ChangeType.DELETED) {
+            untrack(event.noticeNo());
+        } else {
+            Notice notice = event.notice();
+            track(notice.getNoticeNo(), notice.getPublishAt(), notice.getExpireAt());
+        }
+    }
+
+    /** 현재 시각까지 휠을 진행하고 만료된 전환을 반영 */
+    void advance() {
+        List<Transition> due;
+        synchronized (this) {
+            due = wheel.advance(clock.millis()).stream()
+                    .filter(transition -> scheduled.remove(transition.noticeNo(), transition.deadlineMillis()))
+                    .toList();
+        }
+
+        for (Transition transition : due) {
+            try {
+                applyOrReread(transition.noticeNo());
+            } catch (RuntimeException e) {
+                log.warn("공지사항 노출 여부 전환 실패 (noticeNo={}), {}초 후 재시도", transition.noticeNo(),
+                        RETRY_DELAY.toSeconds(), e);
+                retry(transition.noticeNo());
+            }
+        }
+    }
+
+    /** 다른 노드가 먼저 전환해 버전 충돌이 나면 한 번 더 읽어 반영 결과를 확인 (이미 전환되었으면 갱신 없이 예약만 갱신) */
+    private void applyOrReread(Long noticeNo) {
+        try {
+            apply(noticeNo);
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("공지사항 노출 여부가 다른 곳에서 먼저 변경됨 (noticeNo={}), 다시 읽어 확인", noticeNo);
+            apply(noticeNo);
+        }
+    }
+
+    /** 행을 다시 읽어 노출 여부를 갱신하고, 바뀌었으면 커밋 이후 캐시 등이 갱신되도록 변경 이벤트 발행 */
+    private void apply(Long noticeNo) {
+        Notice notice = transactionTemplate.execute(status -> noticeRepository.findById(noticeNo)
+                .map(found -> {
+                    if (found.refreshVisibility(LocalDateTime.now(clock))) {
+                        eventPublisher.publishEvent(NoticeChangedEvent.updated(found));
+                    }
+                    return found;
+                })
+                .orElse(null));
+
+        if (notice != null) {
+            track(noticeNo, notice.getPublishAt(), notice.getExpireAt());
+        }
+    }
+
+    private synchronized void retry(Long noticeNo) {
+        if (scheduled.containsKey(noticeNo)) {
+            // 그 사이 수정되어 새로 예약됨
+            return;
+        }
+        long deadline = clock.millis() + RETRY_DELAY.toMillis();
+        scheduled.put(noticeNo, deadline);
+        wheel.schedule(new Transition(noticeNo, deadline), deadline);
+    }
+
+    /** 현재 시각 이후 가장 가까운 게시 시작/종료 시각 */
+    static LocalDateTime nextTransition(LocalDateTime now, LocalDateTime publishAt, LocalDateTime expireAt) {
+        LocalDateTime next = null;
+        if (publishAt != null && publishAt.isAfter(now)) {
+            next = publishAt;
+        }
+        if (expireAt != null && expireAt.isAfter(now) && (next == null || expireAt.isBefore(next))) {
+            next = expireAt;
+        }
+        return next;
+    }
+
+    private record Transition(Long noticeNo, long deadlineMillis) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.cu2mber.noticeservice.notice.warmup;
+
+import com.cu2mber.noticeservice.common.trace.ServerTimingFilter;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import com.cu2mber.noticeservice.notice.service.NoticeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 직후 트래픽을 받기 전에 캐시와 JIT를 미리 데우는 워밍업 작업
+ * <p>
+ * 다른 기동 작업(노출 전환 예약, 자동완성 인덱스 적재)이 끝난 뒤 가장 마지막에 실행되며,
+ * 실행 중에는 준비 상태를 {@link ReadinessState#REFUSING_TRAFFIC}으로 유지합니다.
+ * 모든 {@link ApplicationRunner}가 끝나야 Spring Boot가 {@link ReadinessState#ACCEPTING_TRAFFIC}으로 전환하므로,
+ * 로드 밸런서는 {@code /actuator/health/readiness}가 UP이 된 뒤(워밍업 완료 후)에 트래픽을 보냅니다.
+ * </p>
+ * <ol>
+ * <li>상단 고정 공지사항과 첫 목록 페이지들을 조회하여 상세 캐시, 마지막 정상 응답, Hibernate 쿼리 계획을 채움</li>
+ * <li>내장 서버로 {@code notice.warmup.requests}건의 조회 요청을 보내 필터, 컨트롤러, Jackson 직렬화 경로를 JIT 최적화</li>
+ * <li>워밍업 요청에는 {@link ServerTimingFilter#WARMUP_HEADER} 헤더로 프로세스별 토큰을 보내 느린 요청 기록에 남지 않게 함</li>
+ * </ol>
+ * <p>워밍업 시간 {@code notice.warmup.timeout}은 적재와 요청 단계 전체에 적용되며,
+ * 실패하거나 시간을 넘겨도 기동은 계속하고 남은 단계는 건너뜁니다.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "notice.warmup.enabled", havingValue = "true")
+public class NoticeWarmup implements ApplicationRunner {
+
+    private static final String SAMPLE_KEYWORD = "공지";
+
+    private final NoticeService noticeService;
+    private final NoticeRepository noticeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+    private final int pages;
+    private final int pageSize;
+    private final int maxPinned;
+    private final int requests;
+    private final Duration timeout;
+
+    public NoticeWarmup(NoticeService noticeService,
+                        NoticeRepository noticeRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        Environment environment,
+                        @Value("${notice.warmup.pages:3}") int pages,
+                        @Value("${notice.warmup.page-size:10}") int pageSize,
+                        @Value("${notice.warmup.max-pinned:100}") int maxPinned,
+                        @Value("${notice.warmup.requests:200}") int requests,
+                        @Value("${notice.warmup.timeout:30s}") Duration timeout) {
+        this.noticeService = noticeService;
+        this.noticeRepository = noticeRepository;
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        this.pages = pages;
+        this.pageSize = pageSize;
+        this.maxPinned = maxPinned;
+        this.requests = requests;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeout.toNanos();
+        try {
+            List<Long> warmedNos = preload(deadline);
+            int sent = sendSyntheticRequests(warmedNos, deadline);
+            log.info("기동 워밍업 완료: 공지사항 {}건 적재, 요청 {}건, {}ms",
+                    warmedNos.size(), sent, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("기동 워밍업 실패, 워밍업 없이 트래픽을 받습니다.", e);
+        }
+    }
+
+    /**
+     * 상단 고정 공지사항과 첫 목록 페이지를 조회하여 캐시를 채움
+     * <p>단계마다 남은 시간을 확인하여, 워밍업 시간({@code notice.warmup.timeout})을 넘기면 남은 단계를 건너뜁니다.</p>
+     *
+     * @param deadline 워밍업 종료 기한 ({@link System#nanoTime()} 기준)
+     * @return 적재한 공지사항 번호 (목록 순서)
+     */
+    List<Long> preload(long deadline) {
+        Set<Long> noticeNos = new LinkedHashSet<>(noticeRepository.findPinnedNoticeNos(Limit.of(maxPinned)));
+
+        for (int page = 0; page < pages && System.nanoTime() < deadline; page++) {
+            List<NoticeResponse> content = noticeService.getAllNotices(page, pageSize, null).getContent();
+            content.forEach(notice -> noticeNos.add(notice.noticeNo()));
+            if (content.size() < pageSize) {
+                break;
+            }
+        }
+        // 검색 쿼리 계획도 미리 준비
+        if (System.nanoTime() < deadline) {
+            noticeService.getAllNotices(0, pageSize, SAMPLE_KEYWORD);
+        }
+
+        List<Long> warmed = new ArrayList<>(noticeNos);
+        if (!warmed.isEmpty() && System.nanoTime() < deadline) {
+            noticeService.getNoticesByIds(warmed);
+        }
+        return warmed;
+    }
+
+    /**
+     * 내장 서버로 조회 요청을 보내 요청 처리 경로 전체를 JIT 최적화
+     *
+     * @return 보낸 요청 수 (서버 포트를 알 수 없으면 0)
+     */
+    private int sendSyntheticRequests(List<Long> noticeNos, long deadline) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || requests <= 0) {
+            return 0;
+        }
+
+        RestClient client = RestClient.builder()
+                .baseUrl("http://localhost:" + port + "/api/notices")
+                .defaultHeader(ServerTimingFilter.WARMUP_HEADER, ServerTimingFilter.warmupToken())
+                .build();
+        List<String> uris = syntheticUris(noticeNos);
+
+        int sent = 0;
+        for (; sent < requests && System.nanoTime() < deadline; sent++) {
+            String uri = uris.get(sent % uris.size());
+            try {
+                client.get().uri(uri).retrieve().toBodilessEntity();
+            } catch (RuntimeException e) {
+                // 404 등 응답 오류도 요청 경로는 데워지므로 계속 진행
+                log.debug("워밍업 요청 실패: {} ({})", uri, e.getMessage());
+            }
+        }
+        return sent;
+    }
+
+    /** 워밍업 요청 대상 (목록, 검색, 상세, 다건, 자동완성, 본문 형식별) */
+    List<String> syntheticUris(List<Long> noticeNos) {
+        List<String> uris = new ArrayList<>();
+        for (int page = 0; page < pages; page++) {
+            uris.add("?page=" + page + "&size=" + pageSize);
+        }
+        uris.add("?page=0&size=" + pageSize + "&format=excerpt");
+        uris.add("?page=0&size=" + pageSize + "&keyword=" + SAMPLE_KEYWORD);
+        uris.add("/autocomplete?q=" + SAMPLE_KEYWORD);
+
+        List<Long> sample = noticeNos.subList(0, Math.min(noticeNos.size(), pageSize));
+        for (Long noticeNo : sample) {
+            uris.add("/" + noticeNo);
+            uris.add("/" + noticeNo + "?format=html");
+        }
+        if (!sample.isEmpty()) {
+            uris.add("?ids=" + sample.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        return uris;
+    }
+}
@@ -0,0 +1,168 @@
+package com.cu2mber.noticeservice.reactive;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리액티브 프로필의 함수형 엔드포인트 통합 테스트
+ * R2DBC H2 위에서 서블릿 스택과 같은 API 계약(상태 코드, 헤더, JSON 구조)을 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveNoticeRouterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private NoticeResponse create(String title, boolean fixed) {
+        return webTestClient.post().uri("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", "1")
+                .bodyValue(new NoticeRequest(title, "내용", fixed))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(NoticeResponse.class)
+                .returnResult().getResponseBody();
+    }
+
+    @Test
+    @DisplayName("등록 후 상세 조회, 수정, 삭제")
+    void crudCycle() {
+        NoticeResponse created = create("리액티브 공지", false);
+        assertThat(created).isNotNull();
+
+        webTestClient.get().uri("/api/notices/{notice-no}", created.noticeNo())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.noticeTitle").isEqualTo("리액티브 공지");
+
+        webTestClient.patch().uri("/api/notices/{notice-no}", created.noticeNo())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .bodyValue(new NoticeRequest("수정된 공지", "수정 내용", true))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.isFixed").isEqualTo(true);
+
+        webTestClient.delete().uri("/api/notices/{notice-no}", created.noticeNo())
+                .header("X-Role", "ROLE_ADMIN")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/notices/{notice-no}", created.noticeNo())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("등록/수정/삭제가 변경 이벤트로 자동완성 인덱스와 버전에 반영")
+    void writes_PublishChangedEvents() {
+        NoticeResponse created = create("이벤트발행 공지", false);
+
+        webTestClient.get().uri("/api/notices/autocomplete?q={q}", "이벤트발행")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].noticeNo").isEqualTo(created.noticeNo().intValue());
+
+        webTestClient.patch().uri("/api/notices/{notice-no}", created.noticeNo())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .bodyValue(new NoticeRequest("이벤트수정 공지", "수정 내용", false))
+                .exchange()
+                .expectStatus().isOk();
+
+        Long version = databaseClient.sql("SELECT version FROM notices WHERE notice_no = :noticeNo")
+                .bind("noticeNo", created.noticeNo())
+                .map(row -> row.get("version", Long.class))
+                .one()
+                .block();
+        assertThat(version).isEqualTo(1L);
+
+        webTestClient.get().uri("/api/notices/autocomplete?q={q}", "이벤트")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].noticeTitle").isEqualTo("이벤트수정 공지");
+
+        webTestClient.delete().uri("/api/notices/{notice-no}", created.noticeNo())
+                .header("X-Role", "ROLE_ADMIN")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/notices/autocomplete?q={q}", "이벤트")
+                .exchange()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 403, 제목이 비어있으면 400")
+    void createNotice_Rejected() {
+        webTestClient.post().uri("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_USER")
+                .header("X-Member-No", "1")
+                .bodyValue(new NoticeRequest("제목", "내용", false))
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.post().uri("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", "1")
+                .bodyValue(new NoticeRequest("", "내용", false))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("제목은 비어있을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("목록은 고정글 우선, 다건 조회는 요청 순서 유지")
+    void listAndMultiGet() {
+        NoticeResponse normal = create("일반 공지", false);
+        NoticeResponse pinned = create("고정 공지", true);
+
+        webTestClient.get().uri("/api/notices?page=0&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.items[0].noticeNo").isEqualTo(pinned.noticeNo().intValue());
+
+        webTestClient.get().uri("/api/notices?ids={a},{b},999999", normal.noticeNo(), pinned.noticeNo())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.notices[0].noticeNo").isEqualTo(normal.noticeNo().intValue())
+                .jsonPath("$.missingIds[0]").isEqualTo(999999);
+    }
+
+    @Test
+    @DisplayName("운영 테이블에 없는 공지사항은 보관 테이블에서 조회")
+    void getNotice_FallsBackToArchive() {
+        databaseClient.sql("INSERT INTO notices_archive (notice_no, member_no, notice_title, notice_content,"
+                        + " created_at, is_fixed, archived_at)"
+                        + " VALUES (900001, 1, '보관된 공지', '내용', CURRENT_TIMESTAMP, FALSE, CURRENT_TIMESTAMP)")
+                .then()
+                .block();
+
+        webTestClient.get().uri("/api/notices/{notice-no}", 900001)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.noticeTitle").isEqualTo("보관된 공지");
+    }
+}
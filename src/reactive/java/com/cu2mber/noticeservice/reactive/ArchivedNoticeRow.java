@@ -0,0 +1,42 @@
+package com.cu2mber.noticeservice.reactive;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.render.NoticeContentRenderer;
+import com.cu2mber.noticeservice.notice.render.RenderedContent;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC에서 사용하는 notices_archive 테이블 행 매핑 객체
+ * <p>JPA 엔티티({@code ArchivedNotice})와 같은 테이블/컬럼을 사용하며, 조회 전용입니다.
+ * 보관 작업({@code NoticeArchiveJob})이 옮긴 공지사항을 원래 번호로 조회할 때 사용합니다.</p>
+ */
+@Table("notices_archive")
+public record ArchivedNoticeRow(
+        @Id Long noticeNo,
+        Long memberNo,
+        String noticeTitle,
+        String noticeContent,
+        String noticeContentHtml,
+        String noticeExcerpt,
+        LocalDateTime createdAt,
+        boolean isFixed,
+        LocalDateTime publishAt,
+        LocalDateTime expireAt,
+        LocalDateTime archivedAt
+) {
+    /** 게시 기간이 끝난 채로 옮겨진 공지사항은 노출하지 않음 */
+    public boolean visible() {
+        return expireAt == null || expireAt.isAfter(LocalDateTime.now());
+    }
+
+    public NoticeResponse toResponse(String memberName) {
+        RenderedContent rendered = noticeContentHtml != null && noticeExcerpt != null
+                ? new RenderedContent(noticeContentHtml, noticeExcerpt)
+                : NoticeContentRenderer.render(noticeContent);
+        return new NoticeResponse(noticeNo, noticeTitle, noticeContent, isFixed, memberName, createdAt,
+                rendered.html(), rendered.excerpt());
+    }
+}
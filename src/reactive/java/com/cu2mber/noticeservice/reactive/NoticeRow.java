@@ -0,0 +1,90 @@
+package com.cu2mber.noticeservice.reactive;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.render.NoticeContentRenderer;
+import com.cu2mber.noticeservice.notice.render.RenderedContent;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC에서 사용하는 notices 테이블 행 매핑 객체
+ * <p>JPA 엔티티({@code Notice})와 같은 테이블/컬럼을 사용하며, 불변 레코드로 다룹니다.
+ * 본문 HTML과 요약문도 엔티티와 같이 등록/수정 시점에 렌더링하여 저장합니다.
+ * 노출 여부(visible)는 등록/수정 시점에 계산하고, 이후 전환은 {@code NoticeVisibilityEngine}이 반영합니다.
+ * 버전(version)은 엔티티와 같이 저장할 때마다 증가하며(동시 수정은 낙관적 락으로 하나만 반영), 노드 간 무효화 메시지의 순서 판단에 사용됩니다.</p>
+ */
+@Table("notices")
+public record NoticeRow(
+        @Id Long noticeNo,
+        Long memberNo,
+        String noticeTitle,
+        String noticeContent,
+        String noticeContentHtml,
+        String noticeExcerpt,
+        LocalDateTime createdAt,
+        boolean isFixed,
+        LocalDateTime publishAt,
+        LocalDateTime expireAt,
+        boolean visible,
+        @Version Long version
+) {
+    /** 신규 등록용 행 생성 (번호는 DB에서 생성) */
+    public static NoticeRow create(NoticeRequest request, Long memberNo) {
+        RenderedContent rendered = NoticeContentRenderer.render(request.getNoticeContent());
+        return new NoticeRow(
+                null,
+                memberNo,
+                request.getNoticeTitle(),
+                request.getNoticeContent(),
+                rendered.html(),
+                rendered.excerpt(),
+                LocalDateTime.now(),
+                request.getIsFixed() != null && request.getIsFixed(),
+                request.getPublishAt(),
+                request.getExpireAt(),
+                isVisibleAt(request.getPublishAt(), request.getExpireAt(), LocalDateTime.now()),
+                null
+        );
+    }
+
+    /** 요청 값 중 null이 아닌 항목만 반영한 새 행 반환 */
+    public NoticeRow update(NoticeRequest request) {
+        LocalDateTime newPublishAt = request.getPublishAt() != null ? request.getPublishAt() : publishAt;
+        LocalDateTime newExpireAt = request.getExpireAt() != null ? request.getExpireAt() : expireAt;
+        String content = request.getNoticeContent() != null ? request.getNoticeContent() : noticeContent;
+        RenderedContent rendered = content.equals(noticeContent) && noticeContentHtml != null && noticeExcerpt != null
+                ? new RenderedContent(noticeContentHtml, noticeExcerpt)
+                : NoticeContentRenderer.render(content);
+        return new NoticeRow(
+                noticeNo,
+                memberNo,
+                request.getNoticeTitle() != null ? request.getNoticeTitle() : noticeTitle,
+                content,
+                rendered.html(),
+                rendered.excerpt(),
+                createdAt,
+                request.getIsFixed() != null ? request.getIsFixed() : isFixed,
+                newPublishAt,
+                newExpireAt,
+                isVisibleAt(newPublishAt, newExpireAt, LocalDateTime.now()),
+                version
+        );
+    }
+
+    public NoticeResponse toResponse(String memberName) {
+        RenderedContent rendered = noticeContentHtml != null && noticeExcerpt != null
+                ? new RenderedContent(noticeContentHtml, noticeExcerpt)
+                : NoticeContentRenderer.render(noticeContent);
+        return new NoticeResponse(noticeNo, noticeTitle, noticeContent, isFixed, memberName, createdAt,
+                rendered.html(), rendered.excerpt());
+    }
+
+    private static boolean isVisibleAt(LocalDateTime publishAt, LocalDateTime expireAt, LocalDateTime now) {
+        return (publishAt == null || !publishAt.isAfter(now))
+                && (expireAt == null || expireAt.isAfter(now));
+    }
+}
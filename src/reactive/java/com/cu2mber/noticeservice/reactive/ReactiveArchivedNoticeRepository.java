@@ -0,0 +1,11 @@
+package com.cu2mber.noticeservice.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+/**
+ * notices_archive 테이블에 대한 논블로킹 조회를 담당하는 R2DBC 리포지토리입니다.
+ */
+@Profile("reactive")
+public interface ReactiveArchivedNoticeRepository extends R2dbcRepository<ArchivedNoticeRow, Long> {
+}
@@ -0,0 +1,61 @@
+package com.cu2mber.noticeservice.reactive;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Function;
+
+/**
+ * R2DBC 쓰기가 끝난 뒤 서블릿 스택과 같은 공지사항 변경 이벤트({@link NoticeChangedEvent})를 발행하는 컴포넌트
+ * <p>
+ * 변경 이벤트의 구독자(상세 캐시, 자동완성 인덱스, 마지막 정상 응답, 노출 전환 예약, 노드 간 무효화 중계기)는
+ * 모두 JPA 트랜잭션에 묶인 {@code @TransactionalEventListener}이므로,
+ * 저장된 행을 JPA 트랜잭션 안에서 다시 읽어 이벤트를 발행하고 커밋 시점에 구독자가 갱신되도록 합니다.
+ * 무효화 아웃박스({@code notice.invalidation.bus=outbox})도 이 트랜잭션에 기록됩니다.
+ * JPA 접근은 블로킹이므로 {@link Schedulers#boundedElastic()}에서 수행합니다.
+ * </p>
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveNoticeChangePublisher {
+
+    private final NoticeRepository noticeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 등록 이벤트 발행 */
+    public Mono<Void> created(Long noticeNo) {
+        return publishSaved(noticeNo, NoticeChangedEvent::created);
+    }
+
+    /** 수정 이벤트 발행 */
+    public Mono<Void> updated(Long noticeNo) {
+        return publishSaved(noticeNo, NoticeChangedEvent::updated);
+    }
+
+    /** 삭제 이벤트 발행 */
+    public Mono<Void> deleted(Long noticeNo) {
+        return Mono.fromRunnable(() -> transactionTemplate.executeWithoutResult(status ->
+                        eventPublisher.publishEvent(NoticeChangedEvent.deleted(noticeNo))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /** 저장된 행을 엔티티로 다시 읽어 이벤트 발행 (그사이 삭제되었으면 삭제 이벤트가 따로 발행되므로 생략) */
+    private Mono<Void> publishSaved(Long noticeNo, Function<Notice, NoticeChangedEvent> toEvent) {
+        return Mono.fromRunnable(() -> transactionTemplate.executeWithoutResult(status ->
+                        noticeRepository.findById(noticeNo)
+                                .ifPresent(notice -> eventPublisher.publishEvent(toEvent.apply(notice)))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
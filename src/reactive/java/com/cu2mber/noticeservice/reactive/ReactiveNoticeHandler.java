@@ -0,0 +1,176 @@
+package com.cu2mber.noticeservice.reactive;
+
+import com.cu2mber.noticeservice.common.exception.BusinessException;
+import com.cu2mber.noticeservice.common.exception.ErrorResponse;
+import com.cu2mber.noticeservice.notice.dto.ContentFormat;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.PageEnvelope;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공지사항 API의 함수형 엔드포인트 핸들러
+ * <p>
+ * 서블릿 스택의 {@code NoticeController} + {@code GlobalExceptionHandler}와 같은 요청/응답 계약을 유지합니다.
+ * </p>
+ * <ul>
+ * <li>요청 본문 검증 실패, 잘못된 번호/헤더 형식: 400 (Bad Request)</li>
+ * <li>{@link BusinessException}: 예외 객체가 가진 상태 코드</li>
+ * <li>그 외 예외: 상세 내용을 숨기고 500 (Internal Server Error)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveNoticeHandler {
+
+    private final ReactiveNoticeService noticeService;
+    private final Validator validator;
+
+    /** 공지사항 등록 */
+    public Mono<ServerResponse> createNotice(ServerRequest request) {
+        return validBody(request)
+                .flatMap(body -> noticeService.createNotice(body, role(request), memberNo(request)))
+                .flatMap(notice -> ServerResponse.created(URI.create("/api/notices/" + notice.noticeNo()))
+                        .bodyValue(notice.in(ContentFormat.RAW)))
+                .onErrorResume(this::handleError);
+    }
+
+    /** 공지사항 수정 */
+    public Mono<ServerResponse> updateNotice(ServerRequest request) {
+        return validBody(request)
+                .flatMap(body -> noticeService.updateNotice(noticeNo(request), body, role(request)))
+                .flatMap(notice -> ServerResponse.ok().bodyValue(notice.in(ContentFormat.RAW)))
+                .onErrorResume(this::handleError);
+    }
+
+    /** 공지사항 삭제 */
+    public Mono<ServerResponse> deleteNotice(ServerRequest request) {
+        return Mono.defer(() -> noticeService.deleteNotice(noticeNo(request), role(request)))
+                .then(ServerResponse.noContent().build())
+                .onErrorResume(this::handleError);
+    }
+
+    /** 공지사항 상세 조회 */
+    public Mono<ServerResponse> getNotice(ServerRequest request) {
+        return Mono.defer(() -> noticeService.getNotice(noticeNo(request))
+                        .map(notice -> notice.in(format(request))))
+                .flatMap(notice -> ServerResponse.ok().bodyValue(notice))
+                .onErrorResume(this::handleError);
+    }
+
+    /** 공지사항 다건 조회 (예: /api/notices?ids=1,2,3) */
+    public Mono<ServerResponse> getNoticesByIds(ServerRequest request) {
+        return Mono.defer(() -> noticeService.getNoticesByIds(ids(request))
+                        .map(result -> result.in(format(request))))
+                .flatMap(result -> ServerResponse.ok().bodyValue(result))
+                .onErrorResume(this::handleError);
+    }
+
+    /** 공지사항 목록 조회 (페이징 및 키워드 검색) */
+    public Mono<ServerResponse> getAllNotices(ServerRequest request) {
+        return Mono.defer(() -> noticeService.getAllNotices(
+                        intParam(request, "page", 0),
+                        intParam(request, "size", 10),
+                        request.queryParam("keyword").orElse(null))
+                        .map(page -> {
+                            ContentFormat contentFormat = format(request);
+                            return PageEnvelope.of(page, notice -> notice.in(contentFormat));
+                        }))
+                .flatMap(page -> ServerResponse.ok().bodyValue(page))
+                .onErrorResume(this::handleError);
+    }
+
+    /** 공지사항 제목 자동완성 */
+    public Mono<ServerResponse> suggestTitles(ServerRequest request) {
+        return Mono.fromCallable(() -> noticeService.suggestTitles(
+                        request.queryParam("q").orElseThrow(() -> new IllegalArgumentException("q")),
+                        intParam(request, "limit", 10)))
+                .flatMap(suggestions -> ServerResponse.ok().bodyValue(suggestions))
+                .onErrorResume(this::handleError);
+    }
+
+    private Mono<NoticeRequest> validBody(ServerRequest request) {
+        return request.bodyToMono(NoticeRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("요청 본문이 비어있습니다.")))
+                .flatMap(body -> {
+                    Set<ConstraintViolation<NoticeRequest>> violations = validator.validate(body);
+                    if (violations.isEmpty()) {
+                        return Mono.just(body);
+                    }
+                    return Mono.error(new IllegalArgumentException(violations.iterator().next().getMessage()));
+                });
+    }
+
+    private static String role(ServerRequest request) {
+        String role = request.headers().firstHeader("X-Role");
+        if (role == null) {
+            throw new IllegalArgumentException("필수 헤더가 없습니다: X-Role");
+        }
+        return role;
+    }
+
+    private static Long noticeNo(ServerRequest request) {
+        return Long.parseLong(request.pathVariable("notice-no"));
+    }
+
+    private static Long memberNo(ServerRequest request) {
+        return Long.parseLong(request.headers().firstHeader("X-Member-No"));
+    }
+
+    private static List<Long> ids(ServerRequest request) {
+        return request.queryParams().getOrDefault("ids", List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    private static ContentFormat format(ServerRequest request) {
+        return ContentFormat.from(request.queryParam("format").orElse(null));
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+    }
+
+    private Mono<ServerResponse> handleError(Throwable e) {
+        if (e instanceof BusinessException businessException) {
+            return error(businessException.getStatusCode(), businessException.getMessage());
+        }
+        if (e instanceof IllegalArgumentException) {
+            // NumberFormatException(잘못된 번호/헤더 형식), 검증 실패 포함
+            String message = e instanceof NumberFormatException ? "잘못된 요청 형식입니다." : e.getMessage();
+            return error(HttpStatus.BAD_REQUEST.value(), message);
+        }
+        if (e instanceof ResponseStatusException statusException) {
+            // 본문 역직렬화 실패 등 WebFlux가 던지는 요청 오류
+            return error(statusException.getStatusCode().value(), statusException.getReason());
+        }
+
+        log.error("RuntimeException 발생: {}", e.getMessage());
+        return error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다.");
+    }
+
+    private static Mono<ServerResponse> error(int status, String message) {
+        return ServerResponse.status(status)
+                .bodyValue(new ErrorResponse(status, message, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.cu2mber.noticeservice.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * notices 테이블에 대한 논블로킹 데이터 액세스를 담당하는 R2DBC 리포지토리입니다.
+ */
+@Profile("reactive")
+public interface ReactiveNoticeRepository extends R2dbcRepository<NoticeRow, Long> {
+
+    /** 노출 중인 전체 목록 페이징 (정렬은 Pageable로 전달) */
+    Flux<NoticeRow> findAllByVisibleTrue(Pageable pageable);
+
+    /** 노출 중인 공지사항 개수 */
+    Mono<Long> countByVisibleTrue();
+
+    /** 제목 검색 + 페이징 (노출 중인 공지사항만) */
+    Flux<NoticeRow> findByNoticeTitleContainingAndVisibleTrue(String keyword, Pageable pageable);
+
+    /** 제목 검색 결과 개수 (노출 중인 공지사항만) */
+    Mono<Long> countByNoticeTitleContainingAndVisibleTrue(String keyword);
+
+    /** 여러 공지사항을 번호로 한 번에 조회 */
+    Flux<NoticeRow> findAllByNoticeNoIn(Collection<Long> noticeNos);
+
+    /** 공지사항 단건 삭제 (존재 확인과 삭제를 하나의 DELETE 문으로 처리) */
+    @Modifying
+    @Query("DELETE FROM notices WHERE notice_no = :noticeNo")
+    Mono<Integer> deleteByNoticeNo(Long noticeNo);
+}
@@ -0,0 +1,36 @@
+package com.cu2mber.noticeservice.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 리액티브 프로필의 공지사항 API 라우팅 설정
+ * <p>
+ * 서블릿 스택의 {@code NoticeController}와 같은 경로/메서드/헤더 계약을 함수형 엔드포인트로 제공합니다.
+ * 경로 변수({@code /{notice-no}})보다 구체적인 경로({@code /autocomplete})를 먼저 등록해야 합니다.
+ * </p>
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveNoticeRouter {
+
+    private static final String BASE_PATH = "/api/notices";
+
+    @Bean
+    public RouterFunction<ServerResponse> noticeRoutes(ReactiveNoticeHandler handler) {
+        return RouterFunctions.route()
+                .GET(BASE_PATH + "/autocomplete", handler::suggestTitles)
+                .GET(BASE_PATH + "/{notice-no}", handler::getNotice)
+                .GET(BASE_PATH, RequestPredicates.queryParam("ids", ids -> true), handler::getNoticesByIds)
+                .GET(BASE_PATH, handler::getAllNotices)
+                .POST(BASE_PATH, handler::createNotice)
+                .PATCH(BASE_PATH + "/{notice-no}", handler::updateNotice)
+                .DELETE(BASE_PATH + "/{notice-no}", handler::deleteNotice)
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.cu2mber.noticeservice.reactive;
+
+import com.cu2mber.noticeservice.common.exception.custom.AdminForbiddenException;
+import com.cu2mber.noticeservice.common.exception.custom.BulkRequestLimitExceededException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidNoticeScheduleException;
+import com.cu2mber.noticeservice.common.exception.custom.NoticeNotFoundException;
+import com.cu2mber.noticeservice.member.MemberNameResolver;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeSuggestion;
+import com.cu2mber.noticeservice.notice.search.NoticeTitleIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공지사항 관리를 위한 논블로킹 서비스
+ * <p>
+ * 서블릿 스택의 {@code NoticeServiceImpl}과 같은 규칙(관리자 권한 검증, 고정글 우선 정렬, 다건 조회 분할)을
+ * R2DBC 리포지토리 위에서 {@link Mono}/{@link Flux}로 제공합니다.
+ * 제목 자동완성 인덱스는 메모리 내 구조이므로 그대로 공유합니다.
+ * 작성자 이름 조회는 외부 호출일 수 있으므로 {@link Schedulers#boundedElastic()}에서 페이지 단위로 한 번에 수행합니다.
+ * 등록/수정/삭제가 끝나면 서블릿 스택과 같은 변경 이벤트를 발행({@link ReactiveNoticeChangePublisher})하여
+ * 자동완성 인덱스, 노출 전환 예약, 캐시와 다른 노드의 무효화가 같은 경로로 갱신되도록 합니다.
+ * 운영 테이블에 없는 공지사항의 단건 조회는 서블릿 스택과 같이 보관 테이블(notices_archive)에서 찾습니다.
+ * </p>
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveNoticeService {
+
+    static final int MAX_BULK_IDS = 1000;
+    static final int IN_CLAUSE_CHUNK_SIZE = 500;
+    static final int MAX_SUGGESTIONS = 20;
+
+    private static final Sort LIST_SORT = Sort.by(
+            Sort.Order.desc("isFixed"),
+            Sort.Order.desc("createdAt")
+    );
+
+    private final ReactiveNoticeRepository noticeRepository;
+    private final ReactiveArchivedNoticeRepository archivedNoticeRepository;
+    private final NoticeTitleIndex noticeTitleIndex;
+    private final MemberNameResolver memberNameResolver;
+    private final ReactiveNoticeChangePublisher changePublisher;
+
+    /** 공지사항 신규 등록 */
+    public Mono<NoticeResponse> createNotice(NoticeRequest request, String role, Long memberNo) {
+        if (!"ROLE_ADMIN".equals(role)) {
+            return Mono.error(new AdminForbiddenException());
+        }
+
+        if (!isValidSchedule(request.getPublishAt(), request.getExpireAt())) {
+            return Mono.error(new InvalidNoticeScheduleException());
+        }
+
+        return noticeRepository.save(NoticeRow.create(request, memberNo))
+                .flatMap(saved -> changePublisher.created(saved.noticeNo()).then(toResponse(saved)));
+    }
+
+    /** 공지사항 수정 */
+    public Mono<NoticeResponse> updateNotice(Long noticeNo, NoticeRequest request, String role) {
+        if (!"ROLE_ADMIN".equals(role)) {
+            return Mono.error(new AdminForbiddenException());
+        }
+
+        return noticeRepository.findById(noticeNo)
+                .switchIfEmpty(Mono.error(NoticeNotFoundException::new))
+                .map(row -> row.update(request))
+                .flatMap(updated -> isValidSchedule(updated.publishAt(), updated.expireAt())
+                        ? noticeRepository.save(updated)
+                        : Mono.error(new InvalidNoticeScheduleException()))
+                .flatMap(saved -> changePublisher.updated(saved.noticeNo()).then(toResponse(saved)));
+    }
+
+    /** 특정 공지사항 삭제 */
+    public Mono<Void> deleteNotice(Long noticeNo, String role) {
+        if (!"ROLE_ADMIN".equals(role)) {
+            return Mono.error(new AdminForbiddenException());
+        }
+
+        return noticeRepository.deleteByNoticeNo(noticeNo)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.<Void>error(new NoticeNotFoundException())
+                        : changePublisher.deleted(noticeNo));
+    }
+
+    /**
+     * 공지사항 조회 (게시 기간이 아니면 존재하지 않는 공지사항으로 처리)
+     * <p>운영 테이블에 없으면 보관 테이블에서 조회합니다.</p>
+     */
+    public Mono<NoticeResponse> getNotice(Long noticeNo) {
+        return noticeRepository.findById(noticeNo)
+                .flatMap(row -> row.visible()
+                        ? toResponse(row)
+                        : Mono.<NoticeResponse>error(new NoticeNotFoundException()))
+                .switchIfEmpty(Mono.defer(() -> archivedNoticeRepository.findById(noticeNo)
+                        .filter(ArchivedNoticeRow::visible)
+                        .switchIfEmpty(Mono.error(NoticeNotFoundException::new))
+                        .flatMap(this::toResponse)));
+    }
+
+    /** 여러 공지사항을 번호로 한 번에 조회 (요청 순서 유지, 누락 번호 반환) */
+    public Mono<NoticeBulkResponse> getNoticesByIds(List<Long> noticeNos) {
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(noticeNos));
+        if (requested.size() > MAX_BULK_IDS) {
+            return Mono.error(new BulkRequestLimitExceededException());
+        }
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < requested.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(requested.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, requested.size())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(noticeRepository::findAllByNoticeNoIn)
+                .filter(NoticeRow::visible)
+                .collect(Collectors.toMap(NoticeRow::noticeNo, Function.identity()))
+                .flatMap(found -> resolveMemberNames(found.values())
+                        .map(memberNames -> toBulkResponse(requested, found, memberNames)));
+    }
+
+    /** 전체 공지사항 목록 조회 (고정글 우선 정렬) */
+    public Mono<Page<NoticeResponse>> getAllNotices(int page, int size, String keyword) {
+        Pageable pageable = PageRequest.of(page, size, LIST_SORT);
+
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        Flux<NoticeRow> content = hasKeyword
+                ? noticeRepository.findByNoticeTitleContainingAndVisibleTrue(keyword, pageable)
+                : noticeRepository.findAllByVisibleTrue(pageable);
+        Mono<Long> total = hasKeyword
+                ? noticeRepository.countByNoticeTitleContainingAndVisibleTrue(keyword)
+                : noticeRepository.countByVisibleTrue();
+
+        Mono<List<NoticeResponse>> responses = content.collectList()
+                .flatMap(rows -> resolveMemberNames(rows)
+                        .map(memberNames -> rows.stream()
+                                .map(row -> row.toResponse(memberNames.get(row.memberNo())))
+                                .toList()));
+
+        return Mono.zip(responses, total)
+                .<Page<NoticeResponse>>map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    /** 공지사항 제목 자동완성 (메모리 내 인덱스 조회) */
+    public List<NoticeSuggestion> suggestTitles(String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+        return noticeTitleIndex.suggest(query, boundedLimit).stream()
+                .map(NoticeSuggestion::from)
+                .toList();
+    }
+
+    private static boolean isValidSchedule(LocalDateTime publishAt, LocalDateTime expireAt) {
+        return publishAt == null || expireAt == null || expireAt.isAfter(publishAt);
+    }
+
+    private Mono<NoticeResponse> toResponse(NoticeRow row) {
+        return Mono.fromCallable(() -> memberNameResolver.resolve(row.memberNo()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(row::toResponse);
+    }
+
+    private Mono<NoticeResponse> toResponse(ArchivedNoticeRow row) {
+        return Mono.fromCallable(() -> memberNameResolver.resolve(row.memberNo()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(row::toResponse);
+    }
+
+    private Mono<Map<Long, String>> resolveMemberNames(Collection<NoticeRow> rows) {
+        Set<Long> memberNos = rows.stream().map(NoticeRow::memberNo).collect(Collectors.toSet());
+        return Mono.fromCallable(() -> memberNameResolver.resolveAll(memberNos))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static NoticeBulkResponse toBulkResponse(List<Long> requested, Map<Long, NoticeRow> found,
+                                                     Map<Long, String> memberNames) {
+        List<NoticeResponse> notices = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long noticeNo : requested) {
+            NoticeRow row = found.get(noticeNo);
+            if (row != null) {
+                notices.add(row.toResponse(memberNames.get(row.memberNo())));
+            } else {
+                missingIds.add(noticeNo);
+            }
+        }
+        return new NoticeBulkResponse(notices, missingIds);
+    }
+}
@@ -0,0 +1,40 @@
+-- 리액티브 프로필(H2) 전용 스키마: JPA 엔티티 Notice와 같은 테이블/컬럼
+CREATE TABLE IF NOT EXISTS notices (
+    notice_no           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_no           BIGINT           NOT NULL,
+    notice_title        VARCHAR(255)     NOT NULL,
+    notice_content      VARCHAR(1048576) NOT NULL,
+    notice_content_html VARCHAR(1048576),
+    notice_excerpt      VARCHAR(300),
+    created_at          TIMESTAMP(6)     NOT NULL,
+    is_fixed            BOOLEAN          NOT NULL,
+    publish_at          TIMESTAMP(6),
+    expire_at           TIMESTAMP(6),
+    visible             BOOLEAN          DEFAULT TRUE NOT NULL,
+    version             BIGINT           DEFAULT 0 NOT NULL
+);
+
+-- 오래된 공지사항 보관 테이블 (JPA 엔티티 ArchivedNotice)
+CREATE TABLE IF NOT EXISTS notices_archive (
+    notice_no           BIGINT           PRIMARY KEY,
+    member_no           BIGINT           NOT NULL,
+    notice_title        VARCHAR(255)     NOT NULL,
+    notice_content      VARCHAR(1048576) NOT NULL,
+    notice_content_html VARCHAR(1048576),
+    notice_excerpt      VARCHAR(300),
+    created_at          TIMESTAMP(6)     NOT NULL,
+    is_fixed            BOOLEAN          NOT NULL,
+    publish_at          TIMESTAMP(6),
+    expire_at           TIMESTAMP(6),
+    archived_at         TIMESTAMP(6)     NOT NULL
+);
+
+-- 노드 간 캐시 무효화 아웃박스 (JPA 엔티티 InvalidationOutboxEntry, notice.invalidation.bus=outbox)
+CREATE TABLE IF NOT EXISTS notice_invalidation_outbox (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    notice_no           BIGINT           NOT NULL,
+    version             BIGINT           NOT NULL,
+    deleted             BOOLEAN          NOT NULL,
+    origin              VARCHAR(64)      NOT NULL,
+    created_at          TIMESTAMP(6)     NOT NULL
+);
@@ -0,0 +1,228 @@
+package com.cu2mber.noticeservice.common.idempotency;
+
+import com.cu2mber.noticeservice.common.exception.custom.IdempotencyKeyConflictException;
+import com.cu2mber.noticeservice.common.exception.custom.IdempotencyRequestInProgressException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidIdempotencyKeyException;
+import com.cu2mber.noticeservice.common.idempotency.IdempotencyStore.IdempotentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멱등성 키 저장소(IdempotencyStore)의 단위 테스트 클래스
+ * 재시도 응답 재사용, 동시 중복 요청 대기, 키 충돌, 실패 시 키 제거, TTL 만료를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final String FINGERPRINT = IdempotencyStore.fingerprint("ROLE_ADMIN", "제목", "내용", true);
+
+    @Mock
+    Clock clock;
+
+    private IdempotencyStore store;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(Duration.ofHours(24), Duration.ofSeconds(5), 100, clock);
+        lenient().when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 작업을 다시 실행하지 않고 이전 결과를 반환")
+    void execute_Replay() {
+        AtomicInteger calls = new AtomicInteger();
+
+        IdempotentResult<Integer> first = store.execute(1L, "key", FINGERPRINT, calls::incrementAndGet);
+        IdempotentResult<Integer> second = store.execute(1L, "key", FINGERPRINT, calls::incrementAndGet);
+
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(1, second.value());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("처리 중에 들어온 중복 요청은 첫 요청의 결과를 기다려 반환")
+    void execute_ConcurrentDuplicateWaits() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<IdempotentResult<Integer>> first = CompletableFuture.supplyAsync(() ->
+                store.execute(1L, "key", FINGERPRINT, () -> {
+                    started.countDown();
+                    await(release);
+                    return calls.incrementAndGet();
+                }), executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<IdempotentResult<Integer>> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute(1L, "key", FINGERPRINT, calls::incrementAndGet), executor);
+        release.countDown();
+
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+        IdempotentResult<Integer> replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertTrue(replayed.replayed());
+        assertEquals(1, replayed.value());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("첫 요청이 대기 시간 안에 끝나지 않으면 409")
+    void execute_WaitTimeout() throws Exception {
+        store = new IdempotencyStore(Duration.ofHours(24), Duration.ofMillis(50), 100, clock);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<IdempotentResult<Integer>> first = CompletableFuture.supplyAsync(() ->
+                store.execute(1L, "key", FINGERPRINT, () -> {
+                    started.countDown();
+                    await(release);
+                    return 1;
+                }), executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(IdempotencyRequestInProgressException.class,
+                () -> store.execute(1L, "key", FINGERPRINT, () -> 2));
+
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).value());
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 내용으로 요청하면 422")
+    void execute_FingerprintConflict() {
+        store.execute(1L, "key", FINGERPRINT, () -> 1);
+
+        String other = IdempotencyStore.fingerprint("ROLE_ADMIN", "다른 제목", "내용", true);
+        assertThrows(IdempotencyKeyConflictException.class, () -> store.execute(1L, "key", other, () -> 2));
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 키를 제거하여 재시도가 다시 실행됨")
+    void execute_FailureRemovesKey() {
+        assertThrows(IllegalStateException.class, () -> store.execute(1L, "key", FINGERPRINT, () -> {
+            throw new IllegalStateException("DB 오류");
+        }));
+
+        IdempotentResult<Integer> retry = store.execute(1L, "key", FINGERPRINT, () -> 2);
+
+        assertFalse(retry.replayed());
+        assertEquals(2, retry.value());
+    }
+
+    @Test
+    @DisplayName("작업이 Error로 실패해도 키를 제거하여 재시도가 다시 실행됨")
+    void execute_ErrorRemovesKey() {
+        assertThrows(StackOverflowError.class, () -> store.execute(1L, "key", FINGERPRINT, () -> {
+            throw new StackOverflowError();
+        }));
+
+        IdempotentResult<Integer> retry = store.execute(1L, "key", FINGERPRINT, () -> 2);
+
+        assertFalse(retry.replayed());
+        assertEquals(2, retry.value());
+    }
+
+    @Test
+    @DisplayName("상한을 넘어도 처리 중인 키는 제거하지 않아 중복 요청이 다시 실행되지 않음")
+    void execute_MaxEntries_KeepsInFlight() throws Exception {
+        store = new IdempotencyStore(Duration.ofHours(24), Duration.ofSeconds(5), 1, clock);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<IdempotentResult<Integer>> first = CompletableFuture.supplyAsync(() ->
+                store.execute(1L, "key", FINGERPRINT, () -> {
+                    started.countDown();
+                    await(release);
+                    return calls.incrementAndGet();
+                }), executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        store.execute(1L, "other", FINGERPRINT, () -> 0);
+        CompletableFuture<IdempotentResult<Integer>> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute(1L, "key", FINGERPRINT, calls::incrementAndGet), executor);
+        release.countDown();
+
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+        assertTrue(duplicate.get(5, TimeUnit.SECONDS).replayed());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("상한에 도달하면 처리가 끝난 가장 오래된 키부터 제거")
+    void execute_MaxEntries_EvictsCompleted() {
+        store = new IdempotencyStore(Duration.ofHours(24), Duration.ofSeconds(5), 1, clock);
+        store.execute(1L, "key", FINGERPRINT, () -> 1);
+        store.execute(1L, "other", FINGERPRINT, () -> 2);
+
+        IdempotentResult<Integer> result = store.execute(1L, "key", FINGERPRINT, () -> 3);
+
+        assertFalse(result.replayed());
+        assertEquals(3, result.value());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 키는 새 요청으로 처리")
+    void execute_Expired() {
+        store.execute(1L, "key", FINGERPRINT, () -> 1);
+
+        when(clock.millis()).thenReturn(Duration.ofHours(24).toMillis());
+        IdempotentResult<Integer> result = store.execute(1L, "key", FINGERPRINT, () -> 2);
+
+        assertFalse(result.replayed());
+        assertEquals(2, result.value());
+    }
+
+    @Test
+    @DisplayName("범위가 다르면 같은 키라도 별개로 실행")
+    void execute_ScopedKeys() {
+        store.execute(1L, "key", FINGERPRINT, () -> 1);
+        IdempotentResult<Integer> other = store.execute(2L, "key", FINGERPRINT, () -> 2);
+
+        assertFalse(other.replayed());
+        assertEquals(2, other.value());
+    }
+
+    @Test
+    @DisplayName("비어 있거나 너무 긴 키는 400")
+    void execute_InvalidKey() {
+        assertThrows(InvalidIdempotencyKeyException.class, () -> store.execute(1L, " ", FINGERPRINT, () -> 1));
+        assertThrows(InvalidIdempotencyKeyException.class,
+                () -> store.execute(1L, "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), FINGERPRINT, () -> 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.cu2mber.noticeservice.common.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 해시 타이머 휠(HashedTimerWheel)의 단위 테스트 클래스
+ * tick 경계 만료, 한 바퀴 이상 떨어진 예약, 지난 시각 예약, 밀린 시간 처리를 검증합니다.
+ */
+class HashedTimerWheelTest {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+
+    @Test
+    @DisplayName("예약 시각이 지난 첫 tick 경계에서 만료")
+    void advance_ExpiresAtDeadline() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("공지", 2_500);
+
+        assertTrue(wheel.advance(2_999).isEmpty());
+        assertEquals(List.of("공지"), wheel.advance(3_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 예약은 해당 바퀴가 될 때까지 만료되지 않음")
+    void advance_MultipleRounds() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("다음 바퀴", 10_000);
+
+        assertTrue(wheel.advance(2_000).isEmpty());
+        assertTrue(wheel.advance(9_000).isEmpty());
+        assertEquals(List.of("다음 바퀴"), wheel.advance(10_000));
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 예약하면 다음 tick에 만료")
+    void schedule_PastDeadline() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 5_000);
+        wheel.schedule("지난 예약", 1_000);
+
+        assertEquals(List.of("지난 예약"), wheel.advance(6_000));
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 밀린 뒤 진행하면 지난 예약만 모두 만료")
+    void advance_LongPause() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 3_000);
+        wheel.schedule("b", 20_000);
+        wheel.schedule("c", 40_000);
+
+        List<String> expired = wheel.advance(25_000);
+
+        assertEquals(2, expired.size());
+        assertTrue(expired.containsAll(List.of("a", "b")));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("c"), wheel.advance(40_000));
+    }
+}
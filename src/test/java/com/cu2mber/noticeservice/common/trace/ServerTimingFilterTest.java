@@ -0,0 +1,82 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 요청별 SQL 추적 필터(ServerTimingFilter)와 느린 요청 조회 API 통합 테스트 클래스
+ * 실제 데이터소스를 거친 SQL 기록과 {@code Server-Timing} 헤더를 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+
+    @AfterEach
+    void tearDown() {
+        noticeRepository.deleteAll();
+        slowRequestLog.clear();
+    }
+
+    @Test
+    @DisplayName("목록 조회 응답에 Server-Timing 헤더를 추가하고 실행된 SQL을 기록")
+    void listRequest_RecordsStatements() throws Exception {
+        noticeRepository.save(Notice.builder().memberNo(1L).noticeTitle("제목").noticeContent("내용").isFixed(false).build());
+
+        mockMvc.perform(get("/api/notices"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING,
+                        matchesPattern("db;dur=[\\d.]+, app;dur=[\\d.]+")));
+
+        mockMvc.perform(get("/api/admin/slow-requests").header("X-Role", "ROLE_ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.uri == '/api/notices')].statementCount", hasItem(greaterThanOrEqualTo(1))))
+                .andExpect(jsonPath("$[?(@.uri == '/api/notices')].statements[0].sql",
+                        hasItem(containsStringIgnoringCase("notices"))))
+                .andExpect(jsonPath("$[?(@.uri == '/api/notices')].statements[0].rows", hasItem(1)));
+    }
+
+    @Test
+    @DisplayName("프로세스의 워밍업 토큰을 보낸 요청만 느린 요청 기록에서 제외")
+    void warmupRequest_NotRecorded() throws Exception {
+        mockMvc.perform(get("/api/notices").header(ServerTimingFilter.WARMUP_HEADER, ServerTimingFilter.warmupToken()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admin/slow-requests").header("X-Role", "ROLE_ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.uri == '/api/notices')]", empty()));
+
+        mockMvc.perform(get("/api/notices").header(ServerTimingFilter.WARMUP_HEADER, "true"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admin/slow-requests").header("X-Role", "ROLE_ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.uri == '/api/notices')]", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("관리자가 아닌 사용자의 느린 요청 조회는 403 에러")
+    void slowRequests_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-requests").header("X-Role", "ROLE_USER"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,65 @@
+package com.cu2mber.noticeservice.common.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 느린 요청 버퍼(SlowRequestLog)의 단위 테스트 클래스
+ */
+class SlowRequestLogTest {
+
+    private SlowRequest request(double totalMillis) {
+        return new SlowRequest("GET", "/api/notices", 200, totalMillis, 0, 0, 0, List.of(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("가장 느린 N개만 느린 순으로 보관")
+    void offer_KeepsSlowest() {
+        SlowRequestLog log = new SlowRequestLog(3);
+
+        for (double total : new double[]{5, 1, 9, 3, 7}) {
+            if (log.isCandidate(total)) {
+                log.offer(request(total));
+            }
+        }
+
+        assertEquals(List.of(9.0, 7.0, 5.0), log.snapshot().stream().map(SlowRequest::totalMillis).toList());
+        assertFalse(log.isCandidate(4));
+        assertTrue(log.isCandidate(6));
+    }
+
+    @Test
+    @DisplayName("초기화하면 모든 요청이 다시 후보가 됨")
+    void clear_ResetsThreshold() {
+        SlowRequestLog log = new SlowRequestLog(1);
+        log.offer(request(10));
+
+        log.clear();
+
+        assertTrue(log.snapshot().isEmpty());
+        assertTrue(log.isCandidate(0.1));
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 아무 요청도 기록하지 않음")
+    void zeroCapacity_Disabled() {
+        SlowRequestLog log = new SlowRequestLog(0);
+
+        log.offer(request(10));
+        log.clear();
+
+        assertFalse(log.isCandidate(1_000_000));
+        assertTrue(log.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("크기가 음수이면 생성 시 예외")
+    void negativeCapacity_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SlowRequestLog(-1));
+    }
+}
@@ -0,0 +1,105 @@
+package com.cu2mber.noticeservice.member;
+
+import com.cu2mber.noticeservice.member.client.MemberDirectoryClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 작성자 이름 조회 캐시(MemberNameResolver)의 단위 테스트 클래스
+ * 배치 조회, TTL 만료, 네거티브 캐싱 동작을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberNameResolverTest {
+
+    @Mock
+    MemberDirectoryClient memberDirectoryClient;
+
+    @Mock
+    Clock clock;
+
+    private MemberNameResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new MemberNameResolver(memberDirectoryClient,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), 100, clock);
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    @DisplayName("여러 회원 번호는 중복을 제거해 한 번에 조회")
+    void resolveAll_BatchedCall() {
+        when(memberDirectoryClient.findMemberNames(Set.of(1L, 2L))).thenReturn(Map.of(1L, "홍길동", 2L, "김철수"));
+
+        Map<Long, String> names = resolver.resolveAll(List.of(1L, 2L, 1L));
+
+        assertEquals(Map.of(1L, "홍길동", 2L, "김철수"), names);
+        verify(memberDirectoryClient, times(1)).findMemberNames(any());
+    }
+
+    @Test
+    @DisplayName("캐시된 번호는 다시 조회하지 않고, 캐시에 없는 번호만 조회")
+    void resolveAll_OnlyMisses() {
+        when(memberDirectoryClient.findMemberNames(Set.of(1L))).thenReturn(Map.of(1L, "홍길동"));
+        when(memberDirectoryClient.findMemberNames(Set.of(2L))).thenReturn(Map.of(2L, "김철수"));
+
+        resolver.resolve(1L);
+        Map<Long, String> names = resolver.resolveAll(List.of(1L, 2L));
+
+        assertEquals("홍길동", names.get(1L));
+        assertEquals("김철수", names.get(2L));
+        verify(memberDirectoryClient, times(1)).findMemberNames(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 네거티브 TTL 동안 다시 조회하지 않음")
+    void resolve_NegativeCaching() {
+        when(memberDirectoryClient.findMemberNames(Set.of(9L))).thenReturn(Map.of());
+
+        assertEquals(MemberNameResolver.UNKNOWN_MEMBER_NAME, resolver.resolve(9L));
+        when(clock.millis()).thenReturn(Duration.ofSeconds(30).toMillis());
+        assertEquals(MemberNameResolver.UNKNOWN_MEMBER_NAME, resolver.resolve(9L));
+        verify(memberDirectoryClient, times(1)).findMemberNames(any());
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(2).toMillis());
+        resolver.resolve(9L);
+        verify(memberDirectoryClient, times(2)).findMemberNames(any());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 조회")
+    void resolve_ExpiresAfterTtl() {
+        when(memberDirectoryClient.findMemberNames(Set.of(1L)))
+                .thenReturn(Map.of(1L, "홍길동"))
+                .thenReturn(Map.of(1L, "홍길순"));
+
+        assertEquals("홍길동", resolver.resolve(1L));
+        when(clock.millis()).thenReturn(Duration.ofMinutes(11).toMillis());
+        assertEquals("홍길순", resolver.resolve(1L));
+    }
+
+    @Test
+    @DisplayName("회원 디렉터리 호출이 실패하면 캐시하지 않고 기본 이름 반환")
+    void resolve_ClientFailure_NotCached() {
+        when(memberDirectoryClient.findMemberNames(Set.of(1L)))
+                .thenThrow(new IllegalStateException("timeout"))
+                .thenReturn(Map.of(1L, "홍길동"));
+
+        assertEquals(MemberNameResolver.UNKNOWN_MEMBER_NAME, resolver.resolve(1L));
+        assertEquals("홍길동", resolver.resolve(1L));
+    }
+}
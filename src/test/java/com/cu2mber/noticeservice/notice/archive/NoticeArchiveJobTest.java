@@ -0,0 +1,107 @@
+package com.cu2mber.noticeservice.notice.archive;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공지사항 보관 작업(NoticeArchiveJob)의 단위 테스트 클래스
+ * 청크 단위 이동, 기준 시각 계산, 실행당 청크 수 제한을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeArchiveJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 7, 1, 4, 0);
+
+    @Mock
+    NoticeRepository noticeRepository;
+
+    @Mock
+    ArchivedNoticeRepository archivedNoticeRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    private NoticeArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        job = new NoticeArchiveJob(noticeRepository, archivedNoticeRepository, transactionTemplate, eventPublisher,
+                Duration.ofDays(180), 2, 10, clock);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("보관 대상을 청크 단위로 보관 테이블에 저장하고 운영 테이블에서 삭제")
+    @SuppressWarnings("unchecked")
+    void archive_MovesInChunks() {
+        LocalDateTime cutoff = NOW.minusDays(180);
+        when(noticeRepository.findArchiveCandidates(cutoff, NOW, Limit.of(2)))
+                .thenReturn(List.of(notice(1L), notice(2L)))
+                .thenReturn(List.of(notice(3L)))
+                .thenReturn(List.of());
+
+        int moved = job.archive();
+
+        assertEquals(3, moved);
+        ArgumentCaptor<List<ArchivedNotice>> saved = ArgumentCaptor.forClass(List.class);
+        verify(archivedNoticeRepository, times(2)).saveAll(saved.capture());
+        assertEquals(List.of(1L, 2L), saved.getAllValues().get(0).stream().map(ArchivedNotice::getNoticeNo).toList());
+        assertEquals(NOW, saved.getAllValues().get(0).get(0).getArchivedAt());
+        verify(noticeRepository).deleteAllByNoticeNoIn(List.of(1L, 2L));
+        verify(noticeRepository).deleteAllByNoticeNoIn(List.of(3L));
+        verify(eventPublisher, times(3)).publishEvent(any(NoticeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 최대 청크 수까지만 처리")
+    void archive_StopsAtMaxChunks() {
+        job = new NoticeArchiveJob(noticeRepository, archivedNoticeRepository, transactionTemplate, eventPublisher,
+                Duration.ofDays(180), 1, 2, Clock.fixed(Instant.parse("2026-07-01T04:00:00Z"), ZoneOffset.UTC));
+        when(noticeRepository.findArchiveCandidates(any(), any(), any()))
+                .thenReturn(List.of(notice(1L)))
+                .thenReturn(List.of(notice(2L)));
+
+        assertEquals(2, job.archive());
+        verify(noticeRepository, times(2)).findArchiveCandidates(any(), any(), any());
+    }
+
+    private static Notice notice(Long noticeNo) {
+        Notice notice = Notice.builder()
+                .memberNo(1L)
+                .noticeTitle("공지 " + noticeNo)
+                .noticeContent("내용")
+                .build();
+        ReflectionTestUtils.setField(notice, "noticeNo", noticeNo);
+        ReflectionTestUtils.setField(notice, "createdAt", NOW.minusYears(1));
+        return notice;
+    }
+}
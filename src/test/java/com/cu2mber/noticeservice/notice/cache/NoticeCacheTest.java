@@ -0,0 +1,66 @@
+package com.cu2mber.noticeservice.notice.cache;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 공지사항 상세 캐시(NoticeCache)의 단위 테스트 클래스
+ * 읽는 도중 제거된 항목의 이전 값이 다시 저장되지 않는지 검증합니다.
+ */
+class NoticeCacheTest {
+
+    private final NoticeCache cache = new NoticeCache(2);
+
+    @Test
+    @DisplayName("토큰을 받은 뒤 제거된 적이 없으면 저장")
+    void put_Success() {
+        long token = cache.token();
+
+        assertTrue(cache.put(cached(1L, "제목"), token));
+        assertEquals("제목", cache.get(1L).orElseThrow().notice().noticeTitle());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 제거되면 읽어 둔 이전 값은 저장하지 않음")
+    void put_RejectedAfterEviction() {
+        long token = cache.token();
+        cache.evict(1L);
+
+        assertFalse(cache.put(cached(1L, "이전 제목"), token));
+        assertTrue(cache.get(1L).isEmpty());
+
+        // 제거 이후 새로 읽은 값은 저장
+        assertTrue(cache.put(cached(1L, "새 제목"), cache.token()));
+    }
+
+    @Test
+    @DisplayName("다른 번호의 제거는 저장에 영향을 주지 않음")
+    void put_OtherNoticeEvicted() {
+        long token = cache.token();
+        cache.evict(2L);
+
+        assertTrue(cache.put(cached(1L, "제목"), token));
+    }
+
+    @Test
+    @DisplayName("제거 기록이 밀려나 잊히면 그 이전에 받은 토큰의 저장은 거부")
+    void put_ForgottenEvictionIsConservative() {
+        long token = cache.token();
+        cache.evict(1L);
+        cache.evict(2L);
+        cache.evict(3L);
+
+        assertFalse(cache.put(cached(1L, "이전 제목"), token));
+        assertFalse(cache.put(cached(4L, "제목"), token));
+        assertTrue(cache.put(cached(4L, "제목"), cache.token()));
+    }
+
+    private static CachedNotice cached(Long noticeNo, String title) {
+        return new CachedNotice(1L, new NoticeResponse(noticeNo, title, "내용", false, null, LocalDateTime.now()));
+    }
+}
@@ -1,14 +1,20 @@
 package com.cu2mber.noticeservice.notice.controller;
 
 import com.cu2mber.noticeservice.common.exception.custom.NoticeNotFoundException;
+import com.cu2mber.noticeservice.common.exception.custom.NoticeUnavailableException;
+import com.cu2mber.noticeservice.common.idempotency.IdempotencyStore;
+import com.cu2mber.noticeservice.common.resilience.StaleResponses;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
 import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
 import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeSuggestion;
 import com.cu2mber.noticeservice.notice.service.NoticeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -23,8 +29,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +42,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * MockMvc를 사용하여 HTTP 요청/응답 및 JSON 데이터 구조를 독립적으로 테스트합니다.
  */
 @WebMvcTest(NoticeController.class)
+@Import(IdempotencyStore.class)
 class NoticeControllerTest {
 
     @Autowired
@@ -63,6 +73,90 @@ class NoticeControllerTest {
                 .andExpect(jsonPath("$.memberName").value("관리자"));
     }
 
+    @Test
+    @DisplayName(value="같은 Idempotency-Key로 재시도하면 다시 등록하지 않고 이전 결과 반환")
+    void createNotice_idempotentReplay() throws Exception {
+        NoticeRequest request = new NoticeRequest("제목", "내용", true);
+        NoticeResponse response = new NoticeResponse(7L, "제목", "내용", true, "관리자", LocalDateTime.now());
+
+        given(noticeService.createNotice(any(NoticeRequest.class), anyString(), anyLong())).willReturn(response);
+
+        mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", 1L)
+                .header("Idempotency-Key", "create-7")
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", 1L)
+                .header("Idempotency-Key", "create-7")
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.noticeNo").value(7));
+
+        verify(noticeService, times(1)).createNotice(any(NoticeRequest.class), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName(value="같은 Idempotency-Key에 다른 내용으로 요청하면 422")
+    void createNotice_idempotencyKeyConflict() throws Exception {
+        NoticeResponse response = new NoticeResponse(8L, "제목", "내용", true, "관리자", LocalDateTime.now());
+
+        given(noticeService.createNotice(any(NoticeRequest.class), anyString(), anyLong())).willReturn(response);
+
+        mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", 1L)
+                .header("Idempotency-Key", "create-8")
+                .content(objectMapper.writeValueAsString(new NoticeRequest("제목", "내용", true))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", 1L)
+                .header("Idempotency-Key", "create-8")
+                .content(objectMapper.writeValueAsString(new NoticeRequest("다른 제목", "내용", true))))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(noticeService, times(1)).createNotice(any(NoticeRequest.class), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName(value="같은 Idempotency-Key에 게시 기간만 다르게 요청해도 422")
+    void createNotice_idempotencyKeyConflict_Schedule() throws Exception {
+        NoticeResponse response = new NoticeResponse(9L, "제목", "내용", true, "관리자", LocalDateTime.now());
+        LocalDateTime publishAt = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+        given(noticeService.createNotice(any(NoticeRequest.class), anyString(), anyLong())).willReturn(response);
+
+        mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", 1L)
+                .header("Idempotency-Key", "create-9")
+                .content(objectMapper.writeValueAsString(new NoticeRequest("제목", "내용", true, publishAt, null))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Role", "ROLE_ADMIN")
+                .header("X-Member-No", 1L)
+                .header("Idempotency-Key", "create-9")
+                .content(objectMapper.writeValueAsString(
+                        new NoticeRequest("제목", "내용", true, publishAt.plusDays(1), null))))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(noticeService, times(1)).createNotice(any(NoticeRequest.class), anyString(), anyLong());
+    }
+
     @Test
     @DisplayName(value="공지사항 수정 성공")
     void updateNotice() throws Exception {
@@ -111,6 +205,56 @@ class NoticeControllerTest {
 
     }
 
+    @Test
+    @DisplayName("format=html이면 렌더링된 본문만 반환")
+    void getNotice_htmlFormat() throws Exception {
+        NoticeResponse response = new NoticeResponse(1L, "제목", "**내용**", true, "관리자", LocalDateTime.now(),
+                "<p><strong>내용</strong></p>", "내용");
+
+        given(noticeService.getNotice(eq(1L))).willReturn(response);
+
+        mockMvc.perform(get("/api/notices/{notice-no}", 1L).param("format", "html"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.noticeContentHtml").value("<p><strong>내용</strong></p>"))
+                .andExpect(jsonPath("$.noticeContent").doesNotExist())
+                .andExpect(jsonPath("$.noticeExcerpt").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 format이면 400 에러")
+    void getNotice_invalidFormat() throws Exception {
+        mockMvc.perform(get("/api/notices/{notice-no}", 1L).param("format", "pdf"))
+                .andExpect(status().isBadRequest());
+
+        verify(noticeService, never()).getNotice(anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 장애로 이전 응답을 제공하면 Warning/Age 헤더 추가")
+    void getNotice_stale() throws Exception {
+        NoticeResponse response = new NoticeResponse(1L, "제목", "내용", true, "관리자", LocalDateTime.now());
+
+        given(noticeService.getNotice(eq(1L))).willAnswer(invocation -> {
+            StaleResponses.mark(42);
+            return response;
+        });
+
+        mockMvc.perform(get("/api/notices/{notice-no}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Warning", "110 - \"Response is Stale\""))
+                .andExpect(header().string("Age", "42"));
+    }
+
+    @Test
+    @DisplayName("DB 장애 중 제공할 이전 응답이 없으면 503 에러")
+    void getNotice_unavailable() throws Exception {
+        given(noticeService.getNotice(1L)).willThrow(new NoticeUnavailableException());
+
+        mockMvc.perform(get("/api/notices/{notice-no}", 1L))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().doesNotExist("Warning"));
+    }
+
     @Test
     @DisplayName("존재하지 않는 공지사항 조회 시 404 에러")
     void getNotice_notFound() throws Exception {
@@ -120,6 +264,26 @@ class NoticeControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("공지사항 다건 조회 성공 - 요청 순서 유지 및 누락 번호 반환")
+    void getNoticesByIds() throws Exception {
+        NoticeBulkResponse response = new NoticeBulkResponse(
+                List.of(new NoticeResponse(3L, "제목3", "내용", false, "관리자", LocalDateTime.now()),
+                        new NoticeResponse(1L, "제목1", "내용", true, "관리자", LocalDateTime.now())),
+                List.of(2L));
+
+        given(noticeService.getNoticesByIds(List.of(3L, 1L, 2L))).willReturn(response);
+
+        mockMvc.perform(get("/api/notices")
+                        .param("ids", "3,1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notices.length()").value(2))
+                .andExpect(jsonPath("$.notices[0].noticeNo").value(3))
+                .andExpect(jsonPath("$.missingIds[0]").value(2));
+
+        verify(noticeService, never()).getAllNotices(anyInt(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("모든 공지사항 가져오기 성공 - 키워드 없음")
     void getNotices_WithoutKeyword() throws Exception {
@@ -137,9 +301,31 @@ class NoticeControllerTest {
                         .param("size", "10")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content.length()").value(2))
-                .andExpect(jsonPath("$.content[0].noticeTitle").value("제목1"))
-                .andExpect(jsonPath("$.totalPages").value(1));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].noticeTitle").value("제목1"))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("보관된 공지사항 목록 조회 - archived=true이면 보관 테이블 조회")
+    void getNotices_Archived() throws Exception {
+        List<NoticeResponse> content = List.of(
+                new NoticeResponse(3L, "지난 공지", "내용", false, "관리자", LocalDateTime.now().minusYears(1)));
+        Page<NoticeResponse> pageResponse = new PageImpl<>(content, PageRequest.of(0, 10), content.size());
+
+        given(noticeService.getArchivedNotices(0, 10, null)).willReturn(pageResponse);
+
+        mockMvc.perform(get("/api/notices")
+                        .param("archived", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].noticeTitle").value("지난 공지"));
+
+        verify(noticeService, never()).getAllNotices(anyInt(), anyInt(), any());
     }
 
     @Test
@@ -160,9 +346,23 @@ class NoticeControllerTest {
                         .param("keyword", keyword)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content.length()").value(1)) // 검색 결과가 1개인 상황
-                .andExpect(jsonPath("$.content[0].noticeTitle").value("[점검] 서버 점검 안내"))
-                .andExpect(jsonPath("$.totalElements").value(1));
+                .andExpect(jsonPath("$.items.length()").value(1)) // 검색 결과가 1개인 상황
+                .andExpect(jsonPath("$.items[0].noticeTitle").value("[점검] 서버 점검 안내"))
+                .andExpect(jsonPath("$.total").value(1));
+
+    }
 
+    @Test
+    @DisplayName("공지사항 제목 자동완성 성공")
+    void suggestTitles() throws Exception {
+        given(noticeService.suggestTitles("점검", 5))
+                .willReturn(List.of(new NoticeSuggestion(1L, "[점검] 서버 점검 안내", true)));
+
+        mockMvc.perform(get("/api/notices/autocomplete")
+                        .param("q", "점검")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].noticeTitle").value("[점검] 서버 점검 안내"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.cu2mber.noticeservice.notice.dto.json;
+
+import com.cu2mber.noticeservice.notice.dto.ContentFormat;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.dto.PageEnvelope;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 페이징 응답 직렬화기(PageEnvelopeSerializer, NoticeResponseSerializer)의 단위 테스트 클래스
+ * 출력 형식이 기본 직렬화와 같은지, 페이지 내부 구조가 노출되지 않는지 검증합니다.
+ */
+class PageEnvelopeSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule()
+                    .addSerializer(new NoticeResponseSerializer())
+                    .addSerializer(new PageEnvelopeSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final NoticeResponse notice = new NoticeResponse(
+            1L, "제목", "내용", true, "관리자", LocalDateTime.of(2024, 5, 1, 9, 30, 15), "<p>내용</p>", "내용");
+
+    @Test
+    @DisplayName("공지사항 응답은 기본 직렬화와 같은 JSON으로 기록")
+    void serializeNotice_SameAsDefault() throws Exception {
+        NoticeResponse html = notice.in(ContentFormat.HTML);
+
+        assertEquals(defaultMapper.writeValueAsString(notice), mapper.writeValueAsString(notice));
+        assertEquals(defaultMapper.writeValueAsString(html), mapper.writeValueAsString(html));
+    }
+
+    @Test
+    @DisplayName("null인 본문 필드는 생략하고 작성일은 ISO-8601 문자열로 기록")
+    void serializeNotice_OmitsNullContent() throws Exception {
+        NoticeResponse raw = new NoticeResponse(2L, "제목", "내용", false, "관리자", LocalDateTime.of(2024, 5, 1, 9, 30));
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(raw));
+
+        assertEquals("내용", json.get("noticeContent").asText());
+        assertFalse(json.has("noticeContentHtml"));
+        assertFalse(json.has("noticeExcerpt"));
+        assertEquals("2024-05-01T09:30:00", json.get("createdAt").asText());
+    }
+
+    @Test
+    @DisplayName("페이지 응답은 items, page, size, total, hasNext만 기록")
+    void serializeEnvelope() throws Exception {
+        PageEnvelope<NoticeResponse> envelope = PageEnvelope.of(
+                new PageImpl<>(List.of(notice), PageRequest.of(0, 1), 3), response -> response);
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(envelope));
+
+        assertEquals(List.of("items", "page", "size", "total", "hasNext"), fieldNames(json));
+        assertEquals(1, json.get("items").size());
+        assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(notice)), json.get("items").get(0));
+        assertEquals(0, json.get("page").asInt());
+        assertEquals(1, json.get("size").asInt());
+        assertEquals(3, json.get("total").asLong());
+        assertTrue(json.get("hasNext").asBoolean());
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 빈 items 배열로 기록")
+    void serializeEnvelope_Empty() throws Exception {
+        PageEnvelope<NoticeResponse> envelope = PageEnvelope.of(
+                new PageImpl<NoticeResponse>(List.of(), PageRequest.of(2, 10), 0), response -> response);
+
+        assertEquals("{\"items\":[],\"page\":2,\"size\":10,\"total\":0,\"hasNext\":false}",
+                mapper.writeValueAsString(envelope));
+    }
+
+    private static List<String> fieldNames(JsonNode json) {
+        List<String> names = new ArrayList<>();
+        json.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
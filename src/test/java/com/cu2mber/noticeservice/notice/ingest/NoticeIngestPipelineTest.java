@@ -0,0 +1,171 @@
+package com.cu2mber.noticeservice.notice.ingest;
+
+import com.cu2mber.noticeservice.common.exception.custom.AdminForbiddenException;
+import com.cu2mber.noticeservice.common.exception.custom.IngestQueueFullException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidNoticeScheduleException;
+import com.cu2mber.noticeservice.member.MemberNameResolver;
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 비동기 등록 파이프라인(NoticeIngestPipeline)의 단위 테스트 클래스
+ * 그룹 커밋, 배압, 건별 재시도 동작을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeIngestPipelineTest {
+
+    @Mock
+    NoticeRepository noticeRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    MemberNameResolver memberNameResolver;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private NoticeIngestPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new NoticeIngestPipeline(noticeRepository, transactionTemplate, eventPublisher, memberNameResolver,
+                3, 10, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    private NoticeRequest request(String title) {
+        return new NoticeRequest(title, "내용", false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    private List<Notice> assignIds(List<Notice> notices) {
+        notices.forEach(notice -> ReflectionTestUtils.setField(notice, "noticeNo", sequence.incrementAndGet()));
+        return notices;
+    }
+
+    @Test
+    @DisplayName("대기열에 쌓인 요청은 하나의 트랜잭션(saveAll 1회)으로 저장")
+    void submit_GroupCommit() throws Exception {
+        runCallbacksInline();
+        when(noticeRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        IngestTicket first = pipeline.submit(request("공지 1"), "ROLE_ADMIN", 1L);
+        IngestTicket second = pipeline.submit(request("공지 2"), "ROLE_ADMIN", 1L);
+        IngestTicket third = pipeline.submit(request("공지 3"), "ROLE_ADMIN", 1L);
+
+        pipeline.start();
+
+        assertEquals(3L, third.getFuture().get(5, TimeUnit.SECONDS).noticeNo());
+        assertEquals(IngestTicket.State.COMPLETED, first.getState());
+        assertEquals(2L, second.getNoticeNo());
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(eventPublisher, times(3)).publishEvent(any(NoticeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절(배압)")
+    void submit_Fail_QueueFull() {
+        pipeline.submit(request("공지 1"), "ROLE_ADMIN", 1L);
+        pipeline.submit(request("공지 2"), "ROLE_ADMIN", 1L);
+        pipeline.submit(request("공지 3"), "ROLE_ADMIN", 1L);
+
+        assertThrows(IngestQueueFullException.class, () -> pipeline.submit(request("공지 4"), "ROLE_ADMIN", 1L));
+    }
+
+    @Test
+    @DisplayName("관리자가 아닌 사용자의 요청은 대기열에 넣지 않음")
+    void submit_Fail_Role() {
+        assertThrows(AdminForbiddenException.class, () -> pipeline.submit(request("공지"), "ROLE_USER", 1L));
+    }
+
+    @Test
+    @DisplayName("게시 시작 시각이 미래인 요청은 비노출로 저장하고, 게시 기간을 담은 등록 이벤트 발행")
+    void submit_FuturePublishAt_SavedHidden() throws Exception {
+        runCallbacksInline();
+        when(noticeRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        LocalDateTime publishAt = LocalDateTime.now().plusDays(1);
+        LocalDateTime expireAt = publishAt.plusDays(7);
+
+        IngestTicket ticket = pipeline.submit(new NoticeRequest("예약 공지", "내용", false, publishAt, expireAt),
+                "ROLE_ADMIN", 1L);
+        pipeline.start();
+        ticket.getFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<NoticeChangedEvent> event = ArgumentCaptor.forClass(NoticeChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        Notice saved = event.getValue().notice();
+        assertFalse(saved.isVisible());
+        assertEquals(publishAt, saved.getPublishAt());
+        assertEquals(expireAt, saved.getExpireAt());
+    }
+
+    @Test
+    @DisplayName("게시 종료 시각이 게시 시작 시각 이후가 아니면 대기열에 넣지 않음")
+    void submit_Fail_InvalidSchedule() {
+        LocalDateTime publishAt = LocalDateTime.now().plusDays(1);
+
+        assertThrows(InvalidNoticeScheduleException.class, () -> pipeline.submit(
+                new NoticeRequest("예약 공지", "내용", false, publishAt, publishAt), "ROLE_ADMIN", 1L));
+        verifyNoInteractions(noticeRepository);
+    }
+
+    @Test
+    @DisplayName("배치 커밋이 실패하면 건별로 재시도하여 원인 요청만 실패 처리")
+    void writeBatch_FallbackToSingleCommits() throws Exception {
+        runCallbacksInline();
+        when(noticeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Notice> notices = invocation.getArgument(0);
+            if (notices.stream().anyMatch(notice -> notice.getNoticeTitle().equals("불량"))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return assignIds(notices);
+        });
+
+        IngestTicket good = pipeline.submit(request("정상"), "ROLE_ADMIN", 1L);
+        IngestTicket bad = pipeline.submit(request("불량"), "ROLE_ADMIN", 1L);
+
+        pipeline.start();
+
+        assertNotNull(good.getFuture().get(5, TimeUnit.SECONDS));
+        assertThrows(Exception.class, () -> bad.getFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(IngestTicket.State.FAILED, bad.getState());
+    }
+}
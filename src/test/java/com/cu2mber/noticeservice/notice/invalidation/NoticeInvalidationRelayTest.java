@@ -0,0 +1,141 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 캐시 무효화 중계기(NoticeInvalidationRelay)의 단위 테스트 클래스
+ * 하나의 루프백 경로를 공유하는 두 노드로 메시지 발행, 다른 노드의 변경 반영, 버전에 따른 중복/역순 메시지 무시를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeInvalidationRelayTest {
+
+    @Mock
+    NoticeRepository noticeRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher nodeAEvents;
+
+    @Mock
+    ApplicationEventPublisher nodeBEvents;
+
+    private LoopbackInvalidationBus bus;
+    private NoticeInvalidationRelay nodeA;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LoopbackInvalidationBus();
+        nodeA = new NoticeInvalidationRelay(bus, noticeRepository, transactionTemplate, nodeAEvents, 100, "node-a");
+        NoticeInvalidationRelay nodeB = new NoticeInvalidationRelay(bus, noticeRepository, transactionTemplate, nodeBEvents, 100, "node-b");
+        nodeA.subscribe();
+        nodeB.subscribe();
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("수정 이벤트는 변경 후 버전으로 발행하고, 다른 노드만 DB에서 다시 읽어 반영")
+    void onNoticeChanged_ReplicatesToOtherNode() {
+        Notice notice = notice(1L, 1L);
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice));
+
+        nodeA.onNoticeChanged(NoticeChangedEvent.updated(notice));
+
+        verify(noticeRepository).flush();
+        verify(nodeBEvents).publishEvent(NoticeChangedEvent.replicated(1L, notice));
+        verifyNoInteractions(nodeAEvents);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 다시 발행한 이벤트는 메시지로 다시 발행하지 않음")
+    void onNoticeChanged_IgnoresReplicated() {
+        nodeA.onNoticeChanged(NoticeChangedEvent.replicated(1L, notice(1L, 1L)));
+
+        verifyNoInteractions(noticeRepository, nodeAEvents, nodeBEvents);
+    }
+
+    @Test
+    @DisplayName("이미 반영한 버전 이하의 메시지(중복, 늦게 도착한 메시지)는 무시")
+    void onInvalidation_DiscardsStaleVersions() {
+        Notice notice = notice(1L, 2L);
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice));
+
+        bus.publish(NoticeInvalidation.changed(1L, 2, "node-a"));
+        bus.publish(NoticeInvalidation.changed(1L, 2, "node-a"));
+        bus.publish(NoticeInvalidation.changed(1L, 1, "node-a"));
+
+        verify(noticeRepository, times(1)).findById(1L);
+        verify(nodeBEvents, times(1)).publishEvent(any(NoticeChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("메시지보다 새 버전을 읽었으면 그 버전까지의 메시지는 다시 읽지 않음")
+    void onInvalidation_SkipsVersionsAlreadyRead() {
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice(1L, 3L)));
+
+        bus.publish(NoticeInvalidation.changed(1L, 1, "node-a"));
+        bus.publish(NoticeInvalidation.changed(1L, 3, "node-a"));
+        bus.publish(NoticeInvalidation.changed(1L, 4, "node-a"));
+
+        verify(noticeRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("삭제 메시지는 삭제 이벤트로 반영하고, 이후 도착한 수정 메시지는 무시")
+    void onInvalidation_Tombstone() {
+        bus.publish(NoticeInvalidation.deleted(1L, "node-a"));
+        bus.publish(NoticeInvalidation.changed(1L, 5, "node-a"));
+
+        verify(nodeBEvents).publishEvent(NoticeChangedEvent.replicated(1L, null));
+        verify(noticeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("DB에 없는 공지사항(삭제 또는 보관됨)의 수정 메시지는 삭제로 반영")
+    void onInvalidation_MissingNotice_TreatedAsDeleted() {
+        when(noticeRepository.findById(1L)).thenReturn(Optional.empty());
+
+        bus.publish(NoticeInvalidation.changed(1L, 1, "node-a"));
+
+        verify(nodeBEvents).publishEvent(NoticeChangedEvent.replicated(1L, null));
+    }
+
+    @Test
+    @DisplayName("발행한 노드는 자신의 메시지를 다시 반영하지 않음")
+    void onInvalidation_IgnoresOwnMessages() {
+        bus.publish(NoticeInvalidation.deleted(1L, "node-a"));
+
+        verifyNoInteractions(nodeAEvents);
+        verify(nodeBEvents, times(1)).publishEvent(any(NoticeChangedEvent.class));
+    }
+
+    private static Notice notice(Long noticeNo, Long version) {
+        Notice notice = Notice.builder()
+                .memberNo(1L)
+                .noticeTitle("공지 " + noticeNo)
+                .noticeContent("내용")
+                .build();
+        ReflectionTestUtils.setField(notice, "noticeNo", noticeNo);
+        ReflectionTestUtils.setField(notice, "version", version);
+        return notice;
+    }
+}
@@ -0,0 +1,144 @@
+package com.cu2mber.noticeservice.notice.invalidation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아웃박스 기반 무효화 경로(OutboxInvalidationBus)의 단위 테스트 클래스
+ * 발행 시 기록, 조회 범위(lookback), 중복 전달 방지, 조회 실패 후 재조회를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxInvalidationBusTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 7, 1, 12, 0);
+    private static final Duration LOOKBACK = Duration.ofSeconds(10);
+
+    @Mock
+    InvalidationOutboxRepository outboxRepository;
+
+    private MutableClock clock;
+    private OutboxInvalidationBus bus;
+    private final List<NoticeInvalidation> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        bus = new OutboxInvalidationBus(outboxRepository, Duration.ofSeconds(1), LOOKBACK, Duration.ofHours(1),
+                2, clock);
+        bus.subscribe(received::add);
+    }
+
+    @Test
+    @DisplayName("발행하면 아웃박스에 기록하고 이 노드의 구독자에게 바로 전달")
+    void publish_WritesOutboxAndDeliversLocally() {
+        NoticeInvalidation invalidation = NoticeInvalidation.changed(1L, 3, "node-a");
+
+        bus.publish(invalidation);
+
+        ArgumentCaptor<InvalidationOutboxEntry> saved = ArgumentCaptor.forClass(InvalidationOutboxEntry.class);
+        verify(outboxRepository).save(saved.capture());
+        assertEquals(invalidation, saved.getValue().toInvalidation());
+        assertEquals(START, saved.getValue().getCreatedAt());
+        assertEquals(List.of(invalidation), received);
+    }
+
+    @Test
+    @DisplayName("직전 조회 시각보다 lookback 앞선 행부터 배치 단위로 읽고, 이미 전달한 행은 다시 전달하지 않음")
+    void poll_ReadsLookbackWindowOnce() {
+        LocalDateTime since = START.minus(LOOKBACK);
+        when(outboxRepository.findSince(since, 0, Limit.of(2)))
+                .thenReturn(List.of(entry(2L, 20L), entry(3L, 30L)))
+                // 번호 1은 늦게 커밋되어 다음 조회에서 처음 보임
+                .thenReturn(List.of(entry(1L, 10L), entry(2L, 20L)));
+        when(outboxRepository.findSince(since, 3, Limit.of(2))).thenReturn(List.of());
+        when(outboxRepository.findSince(since, 2, Limit.of(2))).thenReturn(List.of(entry(3L, 30L)));
+
+        bus.poll();
+        assertEquals(List.of(20L, 30L), received.stream().map(NoticeInvalidation::noticeNo).toList());
+
+        received.clear();
+        bus.poll();
+        assertEquals(List.of(10L), received.stream().map(NoticeInvalidation::noticeNo).toList());
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 조회 기준 시각을 유지하여 다음 조회에서 이어서 읽음")
+    void poll_FailureKeepsWindow() {
+        LocalDateTime since = START.minus(LOOKBACK);
+        when(outboxRepository.findSince(eq(since), anyLong(), any()))
+                .thenThrow(new DataAccessResourceFailureException("DB down"))
+                .thenReturn(List.of(entry(1L, 10L)));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> bus.poll());
+        clock.advance(Duration.ofSeconds(5));
+        bus.poll();
+
+        assertEquals(List.of(10L), received.stream().map(NoticeInvalidation::noticeNo).toList());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 행 삭제")
+    void purge_DeletesExpiredRows() {
+        bus.purge();
+
+        verify(outboxRepository).deleteCreatedBefore(START.minusHours(1));
+    }
+
+    private static InvalidationOutboxEntry entry(Long id, Long noticeNo) {
+        InvalidationOutboxEntry entry = InvalidationOutboxEntry.from(
+                NoticeInvalidation.changed(noticeNo, 1, "node-b"), START);
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+
+    /** 테스트에서 시각을 직접 진행하는 시계 */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
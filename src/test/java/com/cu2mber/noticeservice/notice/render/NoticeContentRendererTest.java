@@ -0,0 +1,66 @@
+package com.cu2mber.noticeservice.notice.render;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 공지사항 본문 렌더러(NoticeContentRenderer)의 단위 테스트 클래스
+ * 서식 변환, HTML 이스케이프, 요약문 생성을 검증합니다.
+ */
+class NoticeContentRendererTest {
+
+    @Test
+    @DisplayName("제목, 목록, 문단, 인라인 서식을 HTML로 변환")
+    void render_Markdown() {
+        String content = """
+                # 점검 안내
+                **10월 20일** 서버 점검이 *예정*되어 있습니다.
+                자세한 내용은 [공지](https://example.com/notice)를 확인하세요.
+
+                - 점검 시간: `02:00 ~ 04:00`
+                - 대상: 전체 서비스
+                """;
+
+        String html = NoticeContentRenderer.render(content).html();
+
+        assertEquals("<h1>점검 안내</h1>"
+                + "<p><strong>10월 20일</strong> 서버 점검이 <em>예정</em>되어 있습니다.<br>"
+                + "자세한 내용은 <a href=\"https://example.com/notice\" rel=\"nofollow noopener\">공지</a>를 확인하세요.</p>"
+                + "<ul><li>점검 시간: <code>02:00 ~ 04:00</code></li><li>대상: 전체 서비스</li></ul>", html);
+    }
+
+    @Test
+    @DisplayName("원문의 HTML은 모두 이스케이프하고 허용되지 않은 링크는 텍스트로 변환")
+    void render_EscapesHtml() {
+        String content = "<script>alert('x')</script> [클릭](javascript:alert(1)) \"인용\"";
+
+        String html = NoticeContentRenderer.render(content).html();
+
+        assertFalse(html.contains("<script>"));
+        assertFalse(html.contains("href"));
+        assertTrue(html.startsWith("<p>&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; 클릭"));
+        assertTrue(html.contains("&quot;인용&quot;"));
+    }
+
+    @Test
+    @DisplayName("코드 블록 안은 서식을 적용하지 않고 줄바꿈을 유지")
+    void render_CodeBlock() {
+        String content = "```\n**굵게 아님**\n<b>\n```\n> 인용문";
+
+        assertEquals("<pre><code>**굵게 아님**\n&lt;b&gt;</code></pre><blockquote><p>인용문</p></blockquote>",
+                NoticeContentRenderer.render(content).html());
+    }
+
+    @Test
+    @DisplayName("요약문은 서식을 제거하고 최대 길이에서 자름")
+    void render_Excerpt() {
+        assertEquals("점검 안내 서버 점검이 예정되어 있습니다. 공지 참고",
+                NoticeContentRenderer.render("# 점검 안내\n\n**서버 점검**이 *예정*되어 있습니다.\n- [공지](/notices/1) 참고").excerpt());
+
+        String excerpt = NoticeContentRenderer.render("가".repeat(500)).excerpt();
+        assertEquals(NoticeContentRenderer.MAX_EXCERPT_LENGTH + 1, excerpt.length());
+        assertTrue(excerpt.endsWith("…"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.cu2mber.noticeservice.notice.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 자동완성 인덱스(NoticeTitleIndex)의 단위 테스트 클래스
+ * 한글 자모 단위 접두어 일치, 순위 정렬, 증분 갱신을 검증합니다.
+ */
+class NoticeTitleIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private NoticeTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NoticeTitleIndex();
+        index.rebuild(List.of(
+                new NoticeTitleEntry(1L, "공지사항 안내", false, NOW.minusDays(3)),
+                new NoticeTitleEntry(2L, "[점검] 서버 점검 안내", true, NOW.minusDays(5)),
+                new NoticeTitleEntry(3L, "공연 일정", false, NOW.minusDays(1)),
+                new NoticeTitleEntry(4L, "Spring Event", false, NOW)
+        ));
+    }
+
+    private List<Long> suggest(String query) {
+        return index.suggest(query, 10).stream().map(NoticeTitleEntry::noticeNo).toList();
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절도 접두어로 일치 - '공ㅈ', '고'")
+    void suggest_PartialSyllable() {
+        assertThat(suggest("공ㅈ")).containsExactly(1L);
+        assertThat(suggest("고")).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치에서도 일치하며 고정글이 먼저 반환")
+    void suggest_WordStartAndRanking() {
+        assertThat(suggest("안내")).containsExactly(2L, 1L);
+        assertThat(suggest("점검")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자를 구분하지 않음")
+    void suggest_CaseInsensitive() {
+        assertThat(suggest("spr")).containsExactly(4L);
+        assertThat(suggest("EVE")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("최대 개수만큼만 반환")
+    void suggest_Limit() {
+        assertThat(index.suggest("ㄱ", 1)).extracting(NoticeTitleEntry::noticeNo).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 인덱스에 즉시 반영")
+    void upsertAndRemove() {
+        index.upsert(new NoticeTitleEntry(3L, "이벤트 일정", false, NOW.minusDays(1)));
+        index.remove(1L);
+
+        assertThat(suggest("공")).isEmpty();
+        assertThat(suggest("이벤")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("트라이 깊이보다 긴 입력은 원문과 다시 비교")
+    void suggest_LongerThanMaxDepth() {
+        index.upsert(new NoticeTitleEntry(5L, "정기 점검 일정 변경 안내 공지", false, NOW));
+        index.upsert(new NoticeTitleEntry(6L, "정기 점검 일정 변경 취소", false, NOW));
+
+        assertThat(suggest("정기 점검 일정 변경 안")).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("보관 항목 수는 제목의 단어 수에 비례 (접두어 노드마다 전체 하위 항목을 복제하지 않음)")
+    void retainedEntries_ProportionalToWords() {
+        List<NoticeTitleEntry> entries = new ArrayList<>();
+        for (long i = 1; i <= 1000; i++) {
+            entries.add(new NoticeTitleEntry(i, "정기 점검 " + i + "차 일정 안내", false, NOW.minusMinutes(i)));
+        }
+        index.rebuild(entries);
+
+        // 제목당 키 5개(단어 시작 위치) + 공유 접두어 노드의 상위 TOP_K개
+        assertThat(index.retainedEntries()).isLessThan(entries.size() * 5 * 2);
+        assertThat(suggest("정기")).hasSize(10).startsWith(1L, 2L);
+        assertThat(suggest("1000")).containsExactly(1000L);
+    }
+
+    @Test
+    @DisplayName("상위 항목이 삭제되면 하위 트리에서 다음 순위 항목으로 채움")
+    void remove_RefillsTopEntries() {
+        List<NoticeTitleEntry> entries = new ArrayList<>();
+        for (long i = 1; i <= NoticeTitleIndex.TOP_K + 5; i++) {
+            entries.add(new NoticeTitleEntry(i, "일정 " + i, false, NOW.minusMinutes(i)));
+        }
+        index.rebuild(entries);
+
+        index.remove(1L);
+        index.remove(2L);
+
+        assertThat(index.suggest("일정", NoticeTitleIndex.TOP_K))
+                .extracting(NoticeTitleEntry::noticeNo)
+                .hasSize(NoticeTitleIndex.TOP_K)
+                .startsWith(3L, 4L)
+                .doesNotContain(1L, 2L);
+    }
+}
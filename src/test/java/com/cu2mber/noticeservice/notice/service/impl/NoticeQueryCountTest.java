@@ -0,0 +1,168 @@
+package com.cu2mber.noticeservice.notice.service.impl;
+
+import com.cu2mber.noticeservice.common.exception.custom.NoticeNotFoundException;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import com.cu2mber.noticeservice.notice.service.NoticeService;
+import com.cu2mber.noticeservice.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 공지사항 서비스 메서드별 SQL 문 수(쿼리 예산) 검증 테스트
+ * <p>
+ * 커밋 시점의 flush까지 측정해야 하므로 {@code @Transactional}을 사용하지 않고,
+ * 각 테스트가 끝난 뒤 데이터를 직접 정리합니다.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class NoticeQueryCountTest {
+
+    private static final String ADMIN = "ROLE_ADMIN";
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        noticeRepository.deleteAll();
+    }
+
+    private NoticeResponse create(String title) {
+        return noticeService.createNotice(new NoticeRequest(title, "내용", false), ADMIN, 1L);
+    }
+
+    @Test
+    @DisplayName("공지사항 등록 - INSERT 1회")
+    void createNotice_OneStatement() {
+        queryCounter.assertStatements(1, () -> create("제목"));
+    }
+
+    @Test
+    @DisplayName("공지사항 상세 조회 - SELECT 1회")
+    void getNotice_OneStatement() {
+        NoticeResponse saved = create("제목");
+
+        NoticeResponse found = queryCounter.assertStatements(1, () -> noticeService.getNotice(saved.noticeNo()));
+
+        assertThat(found.noticeTitle()).isEqualTo("제목");
+    }
+
+    @Test
+    @DisplayName("캐시된 공지사항 상세 조회 - SQL 없음")
+    void getNotice_Cached_NoStatement() {
+        NoticeResponse saved = create("제목");
+        noticeService.getNotice(saved.noticeNo());
+
+        queryCounter.assertStatements(0, () -> noticeService.getNotice(saved.noticeNo()));
+    }
+
+    @Test
+    @DisplayName("다건 조회 - IN 쿼리 1회, 캐시된 항목은 제외")
+    void getNoticesByIds_OneStatement() {
+        NoticeResponse first = create("공지 1");
+        NoticeResponse second = create("공지 2");
+        NoticeResponse third = create("공지 3");
+        noticeService.getNotice(second.noticeNo());
+
+        NoticeBulkResponse result = queryCounter.assertStatements(1, () ->
+                noticeService.getNoticesByIds(List.of(third.noticeNo(), first.noticeNo(), second.noticeNo(), 999L)));
+
+        assertThat(result.notices()).extracting(NoticeResponse::noticeNo)
+                .containsExactly(third.noticeNo(), first.noticeNo(), second.noticeNo());
+        assertThat(result.missingIds()).containsExactly(999L);
+    }
+
+    @Test
+    @DisplayName("공지사항 수정 - SELECT 1회 + UPDATE 1회")
+    void updateNotice_TwoStatements() {
+        NoticeResponse saved = create("제목");
+
+        queryCounter.assertStatements(2, () ->
+                noticeService.updateNotice(saved.noticeNo(), new NoticeRequest("수정제목", "내용", true), ADMIN));
+    }
+
+    @Test
+    @DisplayName("변경 사항이 없는 수정 - UPDATE 없이 SELECT 1회")
+    void updateNotice_NoChange_OneStatement() {
+        NoticeResponse saved = create("제목");
+
+        queryCounter.assertStatements(1, () ->
+                noticeService.updateNotice(saved.noticeNo(), new NoticeRequest("제목", "내용", false), ADMIN));
+    }
+
+    @Test
+    @DisplayName("공지사항 삭제 - DELETE 1회")
+    void deleteNotice_OneStatement() {
+        NoticeResponse saved = create("제목");
+
+        queryCounter.assertStatements(1, () -> noticeService.deleteNotice(saved.noticeNo(), ADMIN));
+
+        assertThat(noticeRepository.existsById(saved.noticeNo())).isFalse();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 공지사항 삭제 - DELETE 1회 후 예외")
+    void deleteNotice_NotFound_OneStatement() {
+        assertThrows(NoticeNotFoundException.class, () ->
+                queryCounter.assertStatementsThrowing(1, () -> noticeService.deleteNotice(999L, ADMIN)));
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 본문 SELECT 1회 + COUNT 1회")
+    void getAllNotices_TwoStatements() {
+        create("공지 1");
+        create("공지 2");
+        create("공지 3");
+
+        Page<NoticeResponse> page = queryCounter.assertStatements(2, () -> noticeService.getAllNotices(0, 2, null));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 마지막 페이지가 한 번에 담기면 COUNT 생략")
+    void getAllNotices_SinglePage_OneStatement() {
+        create("공지 1");
+        create("공지 2");
+
+        queryCounter.assertStatements(1, () -> noticeService.getAllNotices(0, 10, null));
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 본문 SELECT 1회 + COUNT 1회")
+    void searchNotices_TwoStatements() {
+        create("점검 안내 1");
+        create("점검 안내 2");
+        create("이벤트");
+
+        queryCounter.assertStatements(2, () -> noticeService.getAllNotices(0, 1, "점검"));
+    }
+}
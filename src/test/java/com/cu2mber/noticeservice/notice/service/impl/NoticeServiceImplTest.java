@@ -2,18 +2,29 @@ package com.cu2mber.noticeservice.notice.service.impl;
 
 import com.cu2mber.noticeservice.common.exception.BusinessException;
 import com.cu2mber.noticeservice.common.exception.custom.AdminForbiddenException;
+import com.cu2mber.noticeservice.common.exception.custom.BulkRequestLimitExceededException;
+import com.cu2mber.noticeservice.common.exception.custom.InvalidNoticeScheduleException;
 import com.cu2mber.noticeservice.common.exception.custom.NoticeNotFoundException;
+import com.cu2mber.noticeservice.member.MemberNameResolver;
+import com.cu2mber.noticeservice.notice.archive.ArchivedNotice;
+import com.cu2mber.noticeservice.notice.archive.ArchivedNoticeRepository;
+import com.cu2mber.noticeservice.notice.cache.CachedNotice;
+import com.cu2mber.noticeservice.notice.cache.NoticeCache;
 import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
 import com.cu2mber.noticeservice.notice.dto.NoticeRequest;
 import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
 import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import com.cu2mber.noticeservice.notice.search.NoticeTitleIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,9 +33,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +53,21 @@ class NoticeServiceImplTest {
     @Mock
     NoticeRepository noticeRepository;
 
+    @Mock
+    ArchivedNoticeRepository archivedNoticeRepository;
+
+    @Mock
+    NoticeCache noticeCache;
+
+    @Mock
+    NoticeTitleIndex noticeTitleIndex;
+
+    @Mock
+    MemberNameResolver memberNameResolver;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     NoticeServiceImpl noticeService;
 
@@ -104,11 +134,12 @@ class NoticeServiceImplTest {
         Notice notice = Notice.builder().build();
         ReflectionTestUtils.setField(notice, "noticeNo", noticeNo);
 
-        when(noticeRepository.existsById(noticeNo)).thenReturn(true);
+        when(noticeRepository.deleteByNoticeNo(noticeNo)).thenReturn(1);
 
         noticeService.deleteNotice(noticeNo, role);
 
-        verify(noticeRepository, times(1)).deleteById(noticeNo);
+        verify(noticeRepository, times(1)).deleteByNoticeNo(noticeNo);
+        verify(noticeRepository, never()).existsById(noticeNo);
     }
 
     @Test
@@ -117,7 +148,7 @@ class NoticeServiceImplTest {
         Long noticeNo = 999L;
         String role = "ROLE_ADMIN";
 
-        when(noticeRepository.existsById(noticeNo)).thenReturn(false);
+        when(noticeRepository.deleteByNoticeNo(noticeNo)).thenReturn(0);
 
         BusinessException exception = assertThrows(NoticeNotFoundException.class, () -> {
             noticeService.deleteNotice(noticeNo, role);
@@ -126,6 +157,113 @@ class NoticeServiceImplTest {
         assertEquals("존재하지 않는 공지사항입니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("운영 테이블에 없는 공지사항은 보관 테이블에서 조회")
+    void getNotice_FallsBackToArchive() {
+        Notice notice = Notice.builder().noticeTitle("지난 공지").noticeContent("내용").memberNo(1L).build();
+        ReflectionTestUtils.setField(notice, "noticeNo", 1L);
+        ArchivedNotice archived = ArchivedNotice.from(notice, LocalDateTime.now());
+
+        when(noticeCache.get(1L)).thenReturn(Optional.empty());
+        when(noticeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(archivedNoticeRepository.findById(1L)).thenReturn(Optional.of(archived));
+        when(memberNameResolver.resolve(1L)).thenReturn("관리자");
+
+        NoticeResponse response = noticeService.getNotice(1L);
+
+        assertEquals("지난 공지", response.noticeTitle());
+        assertEquals("관리자", response.memberName());
+        ArgumentCaptor<CachedNotice> cached = ArgumentCaptor.forClass(CachedNotice.class);
+        verify(noticeCache).put(cached.capture(), anyLong());
+        assertNull(cached.getValue().notice().memberName());
+    }
+
+    @Test
+    @DisplayName("게시 기간이 끝난 채로 보관된 공지사항은 조회 시 404 에러")
+    void getNotice_ExpiredArchive_NotFound() {
+        Notice notice = Notice.builder().noticeTitle("만료 공지").noticeContent("내용").memberNo(1L)
+                .expireAt(LocalDateTime.now().minusDays(1)).build();
+        ReflectionTestUtils.setField(notice, "noticeNo", 1L);
+        ArchivedNotice archived = ArchivedNotice.from(notice, LocalDateTime.now());
+
+        when(noticeCache.get(1L)).thenReturn(Optional.empty());
+        when(noticeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(archivedNoticeRepository.findById(1L)).thenReturn(Optional.of(archived));
+
+        assertThrows(NoticeNotFoundException.class, () -> noticeService.getNotice(1L));
+        verify(noticeCache, never()).put(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시된 공지사항도 작성자 이름은 조회할 때마다 다시 확인")
+    void getNotice_Cached_ResolvesMemberName() {
+        NoticeResponse notice = new NoticeResponse(1L, "제목", "내용", false, null, LocalDateTime.now());
+        when(noticeCache.get(1L)).thenReturn(Optional.of(new CachedNotice(7L, notice)));
+        when(memberNameResolver.resolve(7L)).thenReturn("바뀐 이름");
+
+        NoticeResponse response = noticeService.getNotice(1L);
+
+        assertEquals("바뀐 이름", response.memberName());
+        verifyNoInteractions(noticeRepository);
+    }
+
+    @Test
+    @DisplayName("게시 기간이 아닌 공지사항을 조회하면 예외 발생")
+    void getNotice_Fail_NotVisible() {
+        Notice scheduled = Notice.builder()
+                .noticeTitle("예약 공지")
+                .noticeContent("내용")
+                .memberNo(1L)
+                .publishAt(LocalDateTime.now().plusDays(1))
+                .build();
+
+        when(noticeCache.get(1L)).thenReturn(Optional.empty());
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(scheduled));
+
+        assertThrows(NoticeNotFoundException.class, () -> noticeService.getNotice(1L));
+        verify(noticeCache, never()).put(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("게시 종료 시각이 게시 시작 시각 이전이면 등록 실패")
+    void createNotice_Fail_InvalidSchedule() {
+        LocalDateTime publishAt = LocalDateTime.now().plusDays(2);
+        NoticeRequest request = new NoticeRequest("제목", "내용", false, publishAt, publishAt.minusDays(1));
+
+        assertThrows(InvalidNoticeScheduleException.class,
+                () -> noticeService.createNotice(request, "ROLE_ADMIN", 1L));
+        verifyNoInteractions(noticeRepository);
+    }
+
+    @Test
+    @DisplayName("다건 조회 - 캐시에 없는 번호만 DB에서 조회하고 요청 순서를 유지")
+    void getNoticesByIds_UsesCacheAndKeepsOrder() {
+        CachedNotice cached = new CachedNotice(1L,
+                new NoticeResponse(2L, "캐시 공지", "내용", false, null, LocalDateTime.now()));
+        Notice stored = Notice.builder().noticeTitle("DB 공지").noticeContent("내용").memberNo(1L).build();
+        ReflectionTestUtils.setField(stored, "noticeNo", 1L);
+
+        when(noticeCache.getAll(List.of(1L, 2L, 3L))).thenReturn(Map.of(2L, cached));
+        when(noticeRepository.findAllByNoticeNoIn(List.of(1L, 3L))).thenReturn(List.of(stored));
+        when(memberNameResolver.resolveAll(Set.of(1L))).thenReturn(Map.of(1L, "관리자"));
+
+        NoticeBulkResponse result = noticeService.getNoticesByIds(List.of(1L, 2L, 3L, 2L));
+
+        assertEquals(List.of(1L, 2L), result.notices().stream().map(NoticeResponse::noticeNo).toList());
+        assertEquals(List.of("관리자", "관리자"), result.notices().stream().map(NoticeResponse::memberName).toList());
+        assertEquals(List.of(3L), result.missingIds());
+        verify(noticeCache).put(any(CachedNotice.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("다건 조회 - 허용 개수를 초과하면 예외 발생")
+    void getNoticesByIds_Fail_TooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, NoticeServiceImpl.MAX_BULK_IDS + 1).boxed().toList();
+
+        assertThrows(BulkRequestLimitExceededException.class, () -> noticeService.getNoticesByIds(ids));
+        verifyNoInteractions(noticeRepository);
+    }
+
     @Test
     @DisplayName("전체 공지사항 목록 조회 - 키워드 없이 전체 페이지 반환")
     void getAllNotices_Success() {
@@ -155,12 +293,18 @@ class NoticeServiceImplTest {
         Page<Notice> mockPage = new PageImpl<>(mockList, pageable, mockList.size());
 
         when(noticeRepository.findAllNoticesWithPaging(any(Pageable.class))).thenReturn(mockPage);
+        when(memberNameResolver.resolveAll(Set.of(memberNo))).thenReturn(Map.of(memberNo, "홍길동"));
 
         Page<NoticeResponse> result = noticeService.getAllNotices(0, 10, keyword);
 
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
         assertEquals("공지사항 1", result.getContent().get(0).noticeTitle());
+        assertEquals("홍길동", result.getContent().get(1).memberName());
+
+        // 페이지의 작성자 이름은 행마다가 아니라 한 번에 조회
+        verify(memberNameResolver, times(1)).resolveAll(Set.of(memberNo));
+        verify(memberNameResolver, never()).resolve(any());
 
         verify(noticeRepository, times(1)).findAllNoticesWithPaging(any(Pageable.class));
         verify(noticeRepository, never()).findByNoticeTitleContaining(anyString(), any(Pageable.class));
@@ -0,0 +1,170 @@
+package com.cu2mber.noticeservice.notice.service.impl;
+
+import com.cu2mber.noticeservice.common.exception.custom.NoticeNotFoundException;
+import com.cu2mber.noticeservice.common.exception.custom.NoticeUnavailableException;
+import com.cu2mber.noticeservice.common.resilience.StaleResponses;
+import com.cu2mber.noticeservice.notice.dto.NoticeBulkResponse;
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 장애 대응 서비스 데코레이터(ResilientNoticeService)의 단위 테스트 클래스
+ * DB 오류 시 마지막 정상 응답 제공, 서킷 브레이커, 백그라운드 갱신 동작을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResilientNoticeServiceTest {
+
+    private static final int FAILURE_THRESHOLD = 2;
+
+    @Mock
+    NoticeServiceImpl delegate;
+
+    @Mock
+    Clock clock;
+
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    private ResilientNoticeService noticeService;
+
+    @BeforeEach
+    void setUp() {
+        noticeService = new ResilientNoticeService(delegate, FAILURE_THRESHOLD, Duration.ofSeconds(10),
+                100, 10, refreshTasks::add, clock);
+        lenient().when(clock.millis()).thenReturn(0L);
+    }
+
+    private NoticeResponse response(String title) {
+        return new NoticeResponse(1L, title, "내용", false, "관리자", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("DB 오류 시 마지막 정상 응답을 Age와 함께 제공하고 갱신은 한 번만 예약")
+    void getNotice_ServesStaleOnDatabaseFailure() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            when(delegate.getNotice(1L))
+                    .thenReturn(response("제목"))
+                    .thenThrow(new QueryTimeoutException("timeout"));
+
+            noticeService.getNotice(1L);
+            when(clock.millis()).thenReturn(Duration.ofSeconds(42).toMillis());
+
+            assertEquals("제목", noticeService.getNotice(1L).noticeTitle());
+            assertEquals("제목", noticeService.getNotice(1L).noticeTitle());
+
+            assertEquals(1, refreshTasks.size());
+            assertEquals(42L, request.getAttribute(StaleResponses.AGE_SECONDS_ATTRIBUTE));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("보관된 응답이 없으면 503 예외 발생")
+    void getNotice_Fail_NoStaleResponse() {
+        when(delegate.getNotice(1L)).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThrows(NoticeUnavailableException.class, () -> noticeService.getNotice(1L));
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 DB를 호출하지 않고, 대기 시간이 지나면 다시 시도")
+    void getAllNotices_CircuitOpens() {
+        when(delegate.getAllNotices(0, 10, null)).thenThrow(new QueryTimeoutException("timeout"));
+
+        for (int i = 0; i < FAILURE_THRESHOLD + 3; i++) {
+            assertThrows(NoticeUnavailableException.class, () -> noticeService.getAllNotices(0, 10, null));
+        }
+        verify(delegate, times(FAILURE_THRESHOLD)).getAllNotices(0, 10, null);
+
+        when(clock.millis()).thenReturn(Duration.ofSeconds(11).toMillis());
+        assertThrows(NoticeUnavailableException.class, () -> noticeService.getAllNotices(0, 10, null));
+        verify(delegate, times(FAILURE_THRESHOLD + 1)).getAllNotices(0, 10, null);
+    }
+
+    @Test
+    @DisplayName("검색어가 없는 목록만 보관하고, 검색 결과는 장애 시 503")
+    void getAllNotices_RetainsOnlyKeywordlessPages() {
+        Page<NoticeResponse> page = new PageImpl<>(List.of(response("제목")));
+        when(delegate.getAllNotices(0, 10, null))
+                .thenReturn(page)
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(delegate.getAllNotices(0, 10, "제목"))
+                .thenReturn(page)
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        noticeService.getAllNotices(0, 10, null);
+        noticeService.getAllNotices(0, 10, "제목");
+
+        assertEquals(page, noticeService.getAllNotices(0, 10, null));
+        assertThrows(NoticeUnavailableException.class, () -> noticeService.getAllNotices(0, 10, "제목"));
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 동안 다건 조회는 보관된 상세 응답만 제공하고 나머지는 missingIds로 반환")
+    void getNoticesByIds_CircuitOpen_ServesStoredNotices() {
+        when(delegate.getNotice(1L)).thenReturn(response("제목"));
+        noticeService.getNotice(1L);
+        when(delegate.getAllNotices(0, 10, null)).thenThrow(new QueryTimeoutException("timeout"));
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThrows(NoticeUnavailableException.class, () -> noticeService.getAllNotices(0, 10, null));
+        }
+
+        NoticeBulkResponse bulk = noticeService.getNoticesByIds(List.of(1L, 2L));
+
+        assertEquals(List.of(1L), bulk.notices().stream().map(NoticeResponse::noticeNo).toList());
+        assertEquals(List.of(2L), bulk.missingIds());
+        assertThrows(NoticeUnavailableException.class, () -> noticeService.getNoticesByIds(List.of(3L)));
+        verify(delegate, never()).getNoticesByIds(any());
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신이 성공하면 이후 장애 중에도 갱신된 응답 제공")
+    void refresh_UpdatesStoredResponse() {
+        when(delegate.getNotice(1L))
+                .thenReturn(response("이전 제목"))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(response("새 제목"))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        noticeService.getNotice(1L);
+        assertEquals("이전 제목", noticeService.getNotice(1L).noticeTitle());
+        refreshTasks.forEach(Runnable::run);
+
+        assertEquals("새 제목", noticeService.getNotice(1L).noticeTitle());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 그대로 전달하고 보관된 응답도 제거")
+    void getNotice_BusinessExceptionPassesThrough() {
+        when(delegate.getNotice(1L))
+                .thenReturn(response("제목"))
+                .thenThrow(new NoticeNotFoundException())
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        noticeService.getNotice(1L);
+        assertThrows(NoticeNotFoundException.class, () -> noticeService.getNotice(1L));
+        assertThrows(NoticeUnavailableException.class, () -> noticeService.getNotice(1L));
+    }
+}
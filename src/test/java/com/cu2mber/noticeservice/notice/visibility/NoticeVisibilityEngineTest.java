@@ -0,0 +1,183 @@
+package com.cu2mber.noticeservice.notice.visibility;
+
+import com.cu2mber.noticeservice.notice.domain.Notice;
+import com.cu2mber.noticeservice.notice.event.NoticeChangedEvent;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게시 기간 노출 전환 엔진(NoticeVisibilityEngine)의 단위 테스트 클래스
+ * 전환 시각 예약, 전환 시점의 변경 이벤트 발행, 예약 해제, 기동 시 보정을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeVisibilityEngineTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Mock
+    NoticeRepository noticeRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private NoticeVisibilityEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        engine = new NoticeVisibilityEngine(noticeRepository, transactionTemplate, eventPublisher,
+                Duration.ofSeconds(1), 64, clock);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("게시 시작 시각이 되면 노출로 전환하고 변경 이벤트 발행")
+    void advance_PublishesAtPublishAt() {
+        // 등록 시점에는 게시 전 (엔티티는 시스템 시각 기준으로 노출 여부를 계산하므로 먼 미래로 설정 후 조정)
+        Notice notice = scheduledNotice(1L, LocalDateTime.now().plusYears(1), null);
+        ReflectionTestUtils.setField(notice, "publishAt", START.plusMinutes(1));
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(notice));
+
+        engine.track(1L, START.plusMinutes(1), null);
+        assertEquals(1, engine.pending());
+
+        clock.advance(Duration.ofSeconds(59));
+        engine.advance();
+        verifyNoInteractions(noticeRepository);
+
+        clock.advance(Duration.ofSeconds(1));
+        engine.advance();
+
+        assertTrue(notice.isVisible());
+        verify(eventPublisher).publishEvent(any(NoticeChangedEvent.class));
+        assertEquals(0, engine.pending());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 전환해 버전 충돌이 나면 다시 읽어 확인하고 재시도하지 않음")
+    void advance_OptimisticLockConflict_RereadsWithoutRetry() {
+        Notice alreadyApplied = scheduledNotice(1L, null, null);
+        when(noticeRepository.findById(1L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Notice.class, 1L))
+                .thenReturn(Optional.of(alreadyApplied));
+
+        engine.track(1L, START.plusSeconds(5), null);
+        clock.advance(Duration.ofSeconds(5));
+        engine.advance();
+
+        verify(noticeRepository, times(2)).findById(1L);
+        verifyNoInteractions(eventPublisher);
+        assertEquals(0, engine.pending());
+    }
+
+    @Test
+    @DisplayName("게시 시작 후에는 게시 종료 시각을 다음 전환으로 예약")
+    void track_NextTransitionIsExpiry() {
+        engine.track(1L, START.minusDays(1), START.plusHours(1));
+
+        assertEquals(1, engine.pending());
+        assertEquals(START.plusHours(1),
+                NoticeVisibilityEngine.nextTransition(START, START.minusDays(1), START.plusHours(1)));
+        assertNull(NoticeVisibilityEngine.nextTransition(START, START.minusDays(1), START.minusHours(1)));
+    }
+
+    @Test
+    @DisplayName("삭제되어 예약이 해제되면 전환하지 않음")
+    void untrack_SkipsTransition() {
+        engine.track(1L, START.plusSeconds(5), null);
+        engine.untrack(1L);
+
+        clock.advance(Duration.ofSeconds(10));
+        engine.advance();
+
+        verifyNoInteractions(noticeRepository);
+        assertEquals(0, engine.pending());
+    }
+
+    @Test
+    @DisplayName("기동 시 서비스가 멈춰 있던 동안 지난 전환은 바로 반영하고, 남은 전환은 예약")
+    void run_ReconcilesMissedTransitions() {
+        Notice expired = scheduledNotice(1L, null, LocalDateTime.now().plusYears(1));
+        ReflectionTestUtils.setField(expired, "expireAt", START.minusMinutes(1));
+        when(noticeRepository.findVisibilitySchedules(START)).thenReturn(List.of(
+                new NoticeSchedule(1L, null, START.minusMinutes(1), true),
+                new NoticeSchedule(2L, START.plusHours(1), null, false)
+        ));
+        when(noticeRepository.findById(1L)).thenReturn(Optional.of(expired));
+
+        engine.run(null);
+
+        assertFalse(expired.isVisible());
+        verify(eventPublisher).publishEvent(any(NoticeChangedEvent.class));
+        verify(noticeRepository, never()).findById(2L);
+        assertEquals(1, engine.pending());
+    }
+
+    private static Notice scheduledNotice(Long noticeNo, LocalDateTime publishAt, LocalDateTime expireAt) {
+        Notice notice = Notice.builder()
+                .memberNo(1L)
+                .noticeTitle("예약 공지")
+                .noticeContent("내용")
+                .publishAt(publishAt)
+                .expireAt(expireAt)
+                .build();
+        ReflectionTestUtils.setField(notice, "noticeNo", noticeNo);
+        return notice;
+    }
+
+    /** 테스트에서 시간을 직접 진행하는 시계 */
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
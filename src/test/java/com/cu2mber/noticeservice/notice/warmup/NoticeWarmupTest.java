@@ -0,0 +1,118 @@
+package com.cu2mber.noticeservice.notice.warmup;
+
+import com.cu2mber.noticeservice.notice.dto.NoticeResponse;
+import com.cu2mber.noticeservice.notice.repository.NoticeRepository;
+import com.cu2mber.noticeservice.notice.service.NoticeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 기동 워밍업(NoticeWarmup)의 단위 테스트 클래스
+ * 고정 공지사항과 첫 목록 페이지 적재, 워밍업 중 준비 상태, 요청 대상 구성을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeWarmupTest {
+
+    @Mock
+    NoticeService noticeService;
+
+    @Mock
+    NoticeRepository noticeRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    Environment environment;
+
+    private NoticeWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        warmup = new NoticeWarmup(noticeService, noticeRepository, eventPublisher, environment,
+                2, 2, 100, 10, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("고정 공지사항과 첫 목록 페이지를 조회하고, 모은 번호로 상세 캐시를 채움")
+    void preload_PinnedAndFirstPages() {
+        when(noticeRepository.findPinnedNoticeNos(Limit.of(100))).thenReturn(List.of(9L, 1L));
+        when(noticeService.getAllNotices(0, 2, null)).thenReturn(page(1L, 2L));
+        when(noticeService.getAllNotices(1, 2, null)).thenReturn(page(3L));
+        when(noticeService.getAllNotices(eq(0), eq(2), eq("공지"))).thenReturn(page());
+
+        List<Long> warmed = warmup.preload(System.nanoTime() + Duration.ofMinutes(1).toNanos());
+
+        assertEquals(List.of(9L, 1L, 2L, 3L), warmed);
+        verify(noticeService).getNoticesByIds(List.of(9L, 1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("워밍업 중에는 트래픽을 받지 않음")
+    @SuppressWarnings("unchecked")
+    void run_RefusesTrafficWhileWarming() {
+        when(noticeRepository.findPinnedNoticeNos(any())).thenReturn(List.of());
+        when(noticeService.getAllNotices(anyInt(), anyInt(), any())).thenReturn(page());
+
+        warmup.run(null);
+
+        ArgumentCaptor<AvailabilityChangeEvent<ReadinessState>> event = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, event.getValue().getState());
+        verify(noticeService, never()).getNoticesByIds(any());
+    }
+
+    @Test
+    @DisplayName("워밍업 시간이 지나면 남은 적재 단계를 건너뜀")
+    void preload_StopsAtDeadline() {
+        when(noticeRepository.findPinnedNoticeNos(Limit.of(100))).thenReturn(List.of(9L));
+
+        List<Long> warmed = warmup.preload(System.nanoTime());
+
+        assertEquals(List.of(9L), warmed);
+        verifyNoInteractions(noticeService);
+    }
+
+    @Test
+    @DisplayName("워밍업 요청 대상에 목록, 검색, 자동완성, 상세, 다건 조회를 포함")
+    void syntheticUris_CoversReadEndpoints() {
+        List<String> uris = warmup.syntheticUris(List.of(1L, 2L, 3L));
+
+        assertTrue(uris.contains("?page=0&size=2"));
+        assertTrue(uris.contains("/autocomplete?q=공지"));
+        assertTrue(uris.contains("/1"));
+        assertTrue(uris.contains("/2?format=html"));
+        assertTrue(uris.contains("?ids=1,2"));
+        assertFalse(uris.contains("/3"));
+    }
+
+    private static PageImpl<NoticeResponse> page(Long... noticeNos) {
+        List<NoticeResponse> content = Arrays.stream(noticeNos)
+                .map(noticeNo -> new NoticeResponse(noticeNo, "공지 " + noticeNo, "내용", false, "관리자", LocalDateTime.now()))
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(0, 2), content.size());
+    }
+}
@@ -0,0 +1,69 @@
+package com.cu2mber.noticeservice.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 통계를 이용해 실행된 SQL 문 수를 검증하는 테스트 유틸리티
+ * <p>
+ * 서비스 메서드 하나가 실행하는 JDBC 문 수를 정확히 검증하여
+ * N+1 등 쿼리 수 회귀를 테스트 단계에서 잡아냅니다.
+ * 트랜잭션 커밋 시점의 flush까지 포함해야 하므로, 테스트 클래스에 {@code @Transactional}을 붙이지 않고 사용해야 합니다.
+ * </p>
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /** 누적된 통계 초기화 */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /** 마지막 초기화 이후 준비(prepare)된 SQL 문 수 */
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 작업을 실행하고 발생한 SQL 문 수가 기대값과 정확히 일치하는지 검증
+     *
+     * @param expected 허용되는 SQL 문 수
+     * @param action   검증할 작업
+     * @return 작업의 반환값
+     */
+    public <T> T assertStatements(long expected, Supplier<T> action) {
+        reset();
+        T result = action.get();
+        assertThat(count()).as("실행된 SQL 문 수").isEqualTo(expected);
+        return result;
+    }
+
+    /** 반환값이 없는 작업의 SQL 문 수 검증 */
+    public void assertStatements(long expected, Runnable action) {
+        assertStatements(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /** 예외가 발생하는 작업의 SQL 문 수 검증 (예외는 그대로 다시 던집니다) */
+    public void assertStatementsThrowing(long expected, Runnable action) {
+        reset();
+        try {
+            action.run();
+        } finally {
+            assertThat(count()).as("실행된 SQL 문 수").isEqualTo(expected);
+        }
+    }
+}